@@ -81,6 +81,7 @@ public class ByteBufReader extends AbstractReader {
         value.getBytes(
             m, tmp, 0, cap
         );
+        value.readerIndex(m + cap);
         return cap;
     }
 
@@ -99,9 +100,10 @@ public class ByteBufReader extends AbstractReader {
     public static Reader of(
         @NotNull ByteBuf buf
     ) {
-        if (buf.hasArray()) {
+        int size = buf.readableBytes();
+        if (buf.hasArray() && size != 0) {
             return new ByteReader(
-                buf.array()
+                buf.array(), buf.arrayOffset() + buf.readerIndex(), size
             );
         }
 
@@ -65,6 +65,32 @@ public class ByteBufReaderTest {
         }
     }
 
+    @Test
+    public void test3() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            sb.append("kraity");
+        }
+        String name = sb.toString();
+
+        ByteBuf buf = Unpooled.directBuffer();
+        buf.writeBytes(
+            ("{$:id(1)$:name(" + name + ")}").getBytes()
+        );
+
+        User user = Supplier.ins().read(
+            User.class, new Event<>(
+                new ByteBufReader(buf)
+            )
+        );
+
+        assertNotNull(user);
+        assertEquals(1, user.id);
+        assertEquals(name, user.name);
+        assertEquals(0, buf.readableBytes());
+        buf.release();
+    }
+
     static class User {
         @Expose("id")
         private int id;
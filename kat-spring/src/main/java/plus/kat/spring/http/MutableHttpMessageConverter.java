@@ -23,6 +23,7 @@ import org.springframework.http.converter.*;
 import org.springframework.util.Assert;
 
 import plus.kat.*;
+import plus.kat.chain.Steam;
 import plus.kat.crash.*;
 
 import java.io.IOException;
@@ -169,10 +170,12 @@ public class MutableHttpMessageConverter extends AbstractGenericHttpMessageConve
         HttpOutputMessage output
     ) throws IOException, HttpMessageNotWritableException {
         try (Chan chan = supplier.telex(algo, plan)) {
+            Steam steam = chan.getSteam();
+            steam.connect(
+                output.getBody()
+            );
             if (chan.set(null, data)) {
-                chan.getSteam().each(
-                    output.getBody()
-                );
+                steam.flush();
             } else {
                 throw new HttpMessageNotWritableException(
                     "Unexpectedly, Cannot serialize "
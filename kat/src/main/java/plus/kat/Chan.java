@@ -117,6 +117,33 @@ public interface Chan extends Flag, Closeable {
         @Nullable Object value
     ) throws IOException;
 
+    /**
+     * Serializes the specified label, coder and value at the current hierarchy,
+     * the framed bytes of label are copied instead of encoding its name again,
+     * named {@code put} so that {@code set(null, coder, value)} stays unambiguous
+     *
+     * <pre>{@code
+     *  Label label = new Label("name");
+     *  Coder<String> coder = ...
+     *
+     *  Chan chan = ...
+     *  chan.put(label, coder, "kraity");
+     * }</pre>
+     *
+     * @return {@code true} if successful
+     * @throws IOException If an I/O error occurs
+     * @since 0.0.5
+     */
+    default boolean put(
+        @NotNull Label label,
+        @Nullable Coder<?> coder,
+        @Nullable Object value
+    ) throws IOException {
+        return set(
+            label.getName(), coder, value
+        );
+    }
+
     /**
      * Returns the {@link Steam} of this
      * {@link Chan} as a serialized {@code byte[]}
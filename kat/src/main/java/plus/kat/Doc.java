@@ -21,6 +21,7 @@ import plus.kat.anno.Nullable;
 import plus.kat.chain.*;
 import plus.kat.crash.*;
 import plus.kat.spare.*;
+import plus.kat.stream.*;
 
 import java.io.IOException;
 import java.util.Map;
@@ -36,6 +37,9 @@ import static plus.kat.Supplier.Impl.INS;
  */
 public class Doc extends Steam implements Chan {
 
+    private static final boolean[]
+        ESC = Binary.table('<', '>', '&');
+
     protected Supplier supplier;
 
     /**
@@ -154,6 +158,7 @@ public class Doc extends Steam implements Chan {
             }
         }
 
+        spill();
         int d = depth;
         if (0 <= d) {
             ++depth;
@@ -259,11 +264,52 @@ public class Doc extends Steam implements Chan {
             }
         }
 
+        return write(
+            alias, null, null, coder, value
+        );
+    }
+
+    /**
+     * Serializes the specified label, coder and value at the current hierarchy
+     *
+     * @return {@code true} if successful
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public boolean put(
+        @NotNull Label label,
+        @Nullable Coder<?> coder,
+        @Nullable Object value
+    ) throws IOException {
+        if (coder == null || value == null ||
+            (!label.ascii && (flags & Flag.UNICODE) != 0)) {
+            return set(
+                label.name, coder, value
+            );
+        }
+        return write(
+            label.name, label.doc, label.end, coder, value
+        );
+    }
+
+    /**
+     * Serializes the alias, or its framed bytes if not null, and the value
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    private boolean write(
+        @Nullable String alias,
+        @Nullable byte[] head,
+        @Nullable byte[] tail,
+        @NotNull Coder<?> coder,
+        @NotNull Object value
+    ) throws IOException {
         if (alias == null) {
             alias = coder.getSpace();
         }
         Boolean flag = coder.getFlag();
 
+        spill();
         int d = depth;
         if (0 <= d) {
             if (flag != null) ++depth;
@@ -280,9 +326,13 @@ public class Doc extends Steam implements Chan {
             }
         }
 
-        join((byte) '<');
-        emit(alias);
-        join((byte) '>');
+        if (head != null) {
+            join(head);
+        } else {
+            join((byte) '<');
+            emit(alias);
+            join((byte) '>');
+        }
 
         if (flag == null) {
             coder.write(
@@ -313,10 +363,14 @@ public class Doc extends Steam implements Chan {
             }
         }
 
-        join((byte) '<');
-        join((byte) '/');
-        emit(alias);
-        join((byte) '>');
+        if (tail != null) {
+            join(tail);
+        } else {
+            join((byte) '<');
+            join((byte) '/');
+            emit(alias);
+            join((byte) '>');
+        }
         return true;
     }
 
@@ -336,6 +390,14 @@ public class Doc extends Steam implements Chan {
         return supplier;
     }
 
+    /**
+     * Returns the table of ascii chars escaped by this {@link Doc}
+     */
+    @Override
+    protected boolean[] table() {
+        return ESC;
+    }
+
     /**
      * Concatenates the byte value to this {@link Doc},
      * which will be escaped if it is a special character
@@ -370,7 +432,7 @@ public class Doc extends Steam implements Chan {
             }
             case '&': {
                 byte[] it = grow(
-                    count + 4
+                    count + 5
                 );
                 it[count++] = '&';
                 it[count++] = 'a';
@@ -21,6 +21,8 @@ import plus.kat.anno.Nullable;
 import java.io.*;
 import java.lang.reflect.*;
 import java.net.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.*;
 import javax.crypto.Cipher;
 
@@ -209,17 +211,14 @@ public class Event<T> implements Flag {
      *
      * @throws IOException          If an I/O error occurs
      * @throws NullPointerException If the specified {@code file} is null
-     * @see Files#newInputStream(Path, OpenOption...)
-     * @see InputStreamReader#InputStreamReader(InputStream)
+     * @see MappedByteReader#of(Path)
      */
     public Event(
         @NotNull File file
     ) throws IOException {
         this(Event.class);
-        reader = new InputStreamReader(
-            Files.newInputStream(
-                file.toPath()
-            )
+        reader = MappedByteReader.of(
+            file.toPath()
         );
     }
 
@@ -232,16 +231,13 @@ public class Event<T> implements Flag {
      *
      * @throws IOException          If an I/O error occurs
      * @throws NullPointerException If the specified {@code path} is null
-     * @see Files#newInputStream(Path, OpenOption...)
-     * @see InputStreamReader#InputStreamReader(InputStream)
+     * @see MappedByteReader#of(Path)
      */
     public Event(
         @NotNull Path path
     ) throws IOException {
         this(Event.class);
-        reader = new InputStreamReader(
-            Files.newInputStream(path)
-        );
+        reader = MappedByteReader.of(path);
     }
 
     /**
@@ -283,6 +279,42 @@ public class Event<T> implements Flag {
         reader = new InputStreamReader(stream);
     }
 
+    /**
+     * For example
+     * <pre>{@code
+     *   ByteBuffer buffer = ...;
+     *   Event<User> event = new Event<>(buffer);
+     * }</pre>
+     *
+     * @throws NullPointerException If the specified {@code buffer} is null
+     * @see ByteBufferReader#ByteBufferReader(ByteBuffer)
+     * @since 0.0.5
+     */
+    public Event(
+        @NotNull ByteBuffer buffer
+    ) {
+        this(Event.class);
+        reader = new ByteBufferReader(buffer);
+    }
+
+    /**
+     * For example
+     * <pre>{@code
+     *   ReadableByteChannel channel = ...;
+     *   Event<User> event = new Event<>(channel);
+     * }</pre>
+     *
+     * @throws NullPointerException If the specified {@code channel} is null
+     * @see ChannelReader#ChannelReader(ReadableByteChannel)
+     * @since 0.0.5
+     */
+    public Event(
+        @NotNull ReadableByteChannel channel
+    ) {
+        this(Event.class);
+        reader = new ChannelReader(channel);
+    }
+
     /**
      * For example
      * <pre>{@code
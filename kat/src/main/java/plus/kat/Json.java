@@ -21,6 +21,7 @@ import plus.kat.anno.Nullable;
 import plus.kat.chain.*;
 import plus.kat.crash.*;
 import plus.kat.spare.*;
+import plus.kat.stream.*;
 
 import java.io.IOException;
 import java.util.Map;
@@ -41,6 +42,18 @@ public class Json extends Steam implements Chan {
         LP = '[', RP = ']',
         LB = '{', RB = '}';
 
+    private static final boolean[] ESC;
+
+    static {
+        boolean[] t = Binary.table(
+            '"', '\\', (char) 0x7F
+        );
+        for (int i = 0; i < 0x20; i++) {
+            t[i] = true;
+        }
+        ESC = t;
+    }
+
     protected boolean blank;
     protected Supplier supplier;
 
@@ -153,6 +166,7 @@ public class Json extends Steam implements Chan {
         @Nullable String space,
         @Nullable Entity value
     ) throws IOException {
+        spill();
         if (blank) {
             blank = false;
         } else {
@@ -277,6 +291,46 @@ public class Json extends Steam implements Chan {
             }
         }
 
+        return write(
+            alias, null, coder, value
+        );
+    }
+
+    /**
+     * Serializes the specified label, coder and value at the current hierarchy
+     *
+     * @return {@code true} if successful
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public boolean put(
+        @NotNull Label label,
+        @Nullable Coder<?> coder,
+        @Nullable Object value
+    ) throws IOException {
+        if (coder == null || value == null ||
+            (!label.ascii && (flags & Flag.UNICODE) != 0)) {
+            return set(
+                label.name, coder, value
+            );
+        }
+        return write(
+            label.name, label.json, coder, value
+        );
+    }
+
+    /**
+     * Serializes the alias, or its framed bytes if not null, and the value
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    private boolean write(
+        @Nullable String alias,
+        @Nullable byte[] frame,
+        @NotNull Coder<?> coder,
+        @NotNull Object value
+    ) throws IOException {
+        spill();
         if (blank) {
             blank = false;
         } else {
@@ -298,7 +352,9 @@ public class Json extends Steam implements Chan {
             }
         }
 
-        if (alias != null) {
+        if (frame != null) {
+            join(frame);
+        } else if (alias != null) {
             join((byte) '"');
             emit(alias);
             join((byte) '"');
@@ -374,6 +430,14 @@ public class Json extends Steam implements Chan {
         return supplier;
     }
 
+    /**
+     * Returns the table of ascii chars escaped by this {@link Json}
+     */
+    @Override
+    protected boolean[] table() {
+        return ESC;
+    }
+
     /**
      * Concatenates the byte value to this {@link Json},
      * which will be escaped if it is a special character
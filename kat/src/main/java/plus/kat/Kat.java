@@ -21,6 +21,7 @@ import plus.kat.anno.Nullable;
 import plus.kat.chain.*;
 import plus.kat.crash.*;
 import plus.kat.spare.*;
+import plus.kat.stream.*;
 
 import java.io.IOException;
 import java.util.Map;
@@ -41,6 +42,9 @@ public class Kat extends Steam implements Chan {
         LP = '(', RP = ')',
         LB = '{', RB = '}';
 
+    private static final boolean[]
+        ESC = Binary.table('^', '(', ')');
+
     protected Supplier supplier;
 
     /**
@@ -151,6 +155,7 @@ public class Kat extends Steam implements Chan {
         @Nullable String space,
         @Nullable Entity value
     ) throws IOException {
+        spill();
         short d = depth;
         if (d > 0) {
             int i = d + 1;
@@ -262,6 +267,46 @@ public class Kat extends Steam implements Chan {
             }
         }
 
+        return write(
+            alias, null, coder, value
+        );
+    }
+
+    /**
+     * Serializes the specified label, coder and value at the current hierarchy
+     *
+     * @return {@code true} if successful
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public boolean put(
+        @NotNull Label label,
+        @Nullable Coder<?> coder,
+        @Nullable Object value
+    ) throws IOException {
+        if (coder == null || value == null ||
+            (!label.ascii && (flags & Flag.UNICODE) != 0)) {
+            return set(
+                label.name, coder, value
+            );
+        }
+        return write(
+            label.name, label.kat, coder, value
+        );
+    }
+
+    /**
+     * Serializes the alias, or its framed bytes if not null, and the value
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    private boolean write(
+        @Nullable String alias,
+        @Nullable byte[] frame,
+        @NotNull Coder<?> coder,
+        @NotNull Object value
+    ) throws IOException {
+        spill();
         short d = depth;
         if (d > 0) {
             int i = d + 1;
@@ -278,7 +323,9 @@ public class Kat extends Steam implements Chan {
         emit(
             coder.getSpace()
         );
-        if (alias != null) {
+        if (frame != null) {
+            join(frame);
+        } else if (alias != null) {
             join(
                 (byte) ':'
             );
@@ -341,6 +388,14 @@ public class Kat extends Steam implements Chan {
         return supplier;
     }
 
+    /**
+     * Returns the table of ascii chars escaped by this {@link Kat}
+     */
+    @Override
+    protected boolean[] table() {
+        return ESC;
+    }
+
     /**
      * Concatenates the byte value to this {@link Kat},
      * which will be escaped if it is a special character
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat;
+
+import plus.kat.anno.NotNull;
+
+import plus.kat.crash.*;
+
+import java.io.IOException;
+
+/**
+ * The name of a property with its bytes framed for each algo, such as
+ * {@code :name} for kat, {@code "name":} for json and {@code <name>} for xml,
+ * which are encoded once and copied by the {@link Chan} for every write
+ *
+ * <pre>{@code
+ *   Label label = new Label("name");
+ *   Chan chan = ...
+ *   chan.put(label, coder, "kraity");
+ * }</pre>
+ *
+ * @author kraity
+ * @since 0.0.5
+ */
+public final class Label {
+
+    final String name;
+    final boolean ascii;
+    final byte[] kat, json, doc, end;
+
+    /**
+     * @param name the specified name of property
+     * @throws NullPointerException If the specified {@code name} is null
+     */
+    public Label(
+        @NotNull String name
+    ) {
+        this.name = name;
+        ascii = ascii(name);
+        try (Kat k = new Kat()) {
+            k.join((byte) ':');
+            k.emit(name);
+            kat = k.toBytes();
+        } catch (IOException e) {
+            throw new FatalCrash(
+                "Unexpectedly, failed to encode " + name, e
+            );
+        }
+
+        try (Json j = new Json()) {
+            j.join((byte) '"');
+            j.emit(name);
+            j.join((byte) '"');
+            j.join((byte) ':');
+            json = j.toBytes();
+        } catch (IOException e) {
+            throw new FatalCrash(
+                "Unexpectedly, failed to encode " + name, e
+            );
+        }
+
+        try (Doc d = new Doc()) {
+            d.join((byte) '<');
+            d.emit(name);
+            d.join((byte) '>');
+            doc = d.toBytes();
+
+            d.reset();
+            d.join((byte) '<');
+            d.join((byte) '/');
+            d.emit(name);
+            d.join((byte) '>');
+            end = d.toBytes();
+        } catch (IOException e) {
+            throw new FatalCrash(
+                "Unexpectedly, failed to encode " + name, e
+            );
+        }
+    }
+
+    /**
+     * Returns true if the name is all ascii,
+     * the frames of others are only valid without {@link Flag#UNICODE}
+     */
+    static boolean ascii(
+        @NotNull String name
+    ) {
+        for (int i = 0, l = name.length(); i < l; i++) {
+            if (name.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the name of property
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
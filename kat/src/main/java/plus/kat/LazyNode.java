@@ -0,0 +1,832 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat;
+
+import plus.kat.anno.NotNull;
+import plus.kat.anno.Nullable;
+
+import plus.kat.chain.*;
+import plus.kat.crash.*;
+import plus.kat.kernel.*;
+import plus.kat.spare.*;
+import plus.kat.stream.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static plus.kat.spare.Parser.Group;
+
+/**
+ * A lazy document model over the raw bytes
+ * <p>
+ * The document is indexed in one pass by the solver of its {@link Algo} into
+ * an {@code int[]} tape, holding the offsets of the spaces, aliases, values and
+ * containers in the source bytes. Only the names and values the solver had to
+ * unescape are kept in a side byte array, and a {@link String} or number is only
+ * materialized when asked for, numbers are parsed in place. A container of kat
+ * or json that is written back with the same algo is copied byte for byte
+ *
+ * <pre>{@code
+ *   LazyNode node = LazyNode.parse(
+ *       Algo.JSON, bytes
+ *   );
+ *   long uid = node.get("uid").toLong();
+ *   String name = node.get("meta").get("name").toString();
+ *
+ *   Chan chan = new Json();
+ *   chan.set(null, node.get("meta"), node.get("meta"));
+ * }</pre>
+ *
+ * @author kraity
+ * @since 0.0.5
+ */
+public final class LazyNode implements Coder<LazyNode>, Iterable<LazyNode> {
+
+    private static final int VALUE = 0, MAP = 1, LIST = 2;
+
+    /**
+     * kind, space, alias, value or next and size, raw,
+     * the offsets of space, alias and value are the indexes in the
+     * source, or the complements of the indexes in the side bytes
+     */
+    private static final int STRIDE = 9;
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
+    private final Tape tape;
+    private final int node;
+
+    private LazyNode(
+        @NotNull Tape tape, int node
+    ) {
+        this.tape = tape;
+        this.node = node;
+    }
+
+    /**
+     * Parses the specified bytes into a {@link LazyNode}
+     *
+     * @param algo the specified algo of the bytes
+     * @param data the specified bytes to be indexed, not copied
+     * @throws Collapse             If parsing fails or the document is empty
+     * @throws FatalCrash           If no solver available for algo is found
+     * @throws NullPointerException If the specified {@code algo} or {@code data} is null
+     */
+    @NotNull
+    public static LazyNode parse(
+        @NotNull Algo algo,
+        @NotNull byte[] data
+    ) {
+        return parse(
+            algo, data, 0, data.length
+        );
+    }
+
+    /**
+     * Parses the specified text into a {@link LazyNode}
+     *
+     * @param algo the specified algo of the text
+     * @param text the specified text to be indexed
+     * @throws Collapse             If parsing fails or the document is empty
+     * @throws FatalCrash           If no solver available for algo is found
+     * @throws NullPointerException If the specified {@code algo} or {@code text} is null
+     */
+    @NotNull
+    public static LazyNode parse(
+        @NotNull Algo algo,
+        @NotNull CharSequence text
+    ) {
+        return parse(
+            algo, text.toString().getBytes(UTF_8)
+        );
+    }
+
+    /**
+     * Parses the specified bytes into a {@link LazyNode}
+     *
+     * @param algo   the specified algo of the bytes
+     * @param data   the specified bytes to be indexed, not copied
+     * @param index  the specified offset of the bytes
+     * @param length the specified length of the bytes
+     * @throws Collapse                  If parsing fails or the document is empty
+     * @throws FatalCrash                If no solver available for algo is found
+     * @throws NullPointerException      If the specified {@code algo} or {@code data} is null
+     * @throws IndexOutOfBoundsException If the index and the length are out of range
+     */
+    @NotNull
+    public static LazyNode parse(
+        @NotNull Algo algo,
+        @NotNull byte[] data, int index, int length
+    ) {
+        if (length == 0) {
+            throw new Collapse(
+                "The document is empty"
+            );
+        }
+
+        Tape tape = new Tape(
+            algo, data
+        );
+        ByteReader reader = new ByteReader(
+            data, index, length
+        );
+
+        Group group = Group.INS;
+        Parser parser = group.borrow();
+        Solver solver = parser.solver(algo);
+
+        try {
+            tape.reader = reader;
+            tape.mark = index;
+            solver.read(
+                tape, reader
+            );
+        } catch (IOException e) {
+            throw new Collapse(
+                "Failed to index " + algo, e
+            );
+        } finally {
+            solver.clear();
+            tape.reader = null;
+            group.retreat(parser);
+        }
+
+        if (tape.size == 0 || tape.depth != 0) {
+            throw new Collapse(
+                "Parsing error, the document of " + algo + " is incomplete"
+            );
+        }
+
+        return new LazyNode(tape, 0);
+    }
+
+    /**
+     * Returns true if this is a map
+     */
+    public boolean isMap() {
+        return tape.get(node, 0) == MAP;
+    }
+
+    /**
+     * Returns true if this is a list
+     */
+    public boolean isList() {
+        return tape.get(node, 0) == LIST;
+    }
+
+    /**
+     * Returns true if this is a value
+     */
+    public boolean isValue() {
+        return tape.get(node, 0) == VALUE;
+    }
+
+    /**
+     * Returns the number of the children, or {@code 0} if this is a value
+     */
+    public int size() {
+        if (isValue()) {
+            return 0;
+        }
+        return tape.get(node, 6);
+    }
+
+    /**
+     * Returns the child of the specified alias, or {@code null} if not found
+     *
+     * @param alias the specified alias of the child
+     * @throws NullPointerException If the specified {@code alias} is null
+     */
+    @Nullable
+    public LazyNode get(
+        @NotNull String alias
+    ) {
+        if (isValue()) {
+            return null;
+        }
+
+        byte[] key = alias.getBytes(UTF_8);
+        Tape t = tape;
+
+        int e = t.get(node, 5);
+        for (int c = node + 1; c < e; c = t.next(c)) {
+            int l = t.get(c, 4);
+            if (l == key.length) {
+                int o = t.get(c, 3);
+                byte[] b = t.array(o);
+                o = Tape.index(o);
+                int i = 0;
+                while (i < l && b[o + i] == key[i]) i++;
+                if (i == l) {
+                    return new LazyNode(t, c);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the child at the specified index, or {@code null} if out of range
+     *
+     * @param index the specified index of the child
+     */
+    @Nullable
+    public LazyNode get(
+        int index
+    ) {
+        if (index < 0 ||
+            index >= size()) {
+            return null;
+        }
+
+        Tape t = tape;
+        int c = node + 1;
+        while (index-- != 0) {
+            c = t.next(c);
+        }
+        return new LazyNode(t, c);
+    }
+
+    /**
+     * Returns the space of this node, such as {@code s} or {@code M}
+     */
+    @NotNull
+    @Override
+    public String getSpace() {
+        return tape.string(
+            node, 1
+        );
+    }
+
+    /**
+     * Returns the alias of this node, empty if it has none
+     */
+    @NotNull
+    public String getAlias() {
+        return tape.string(
+            node, 3
+        );
+    }
+
+    /**
+     * Returns the value as {@code int}, or {@code def} value on error
+     */
+    public int toInt(int def) {
+        if (isValue()) {
+            Tape t = tape;
+            int o = t.get(node, 5);
+            return Convert.toInt(
+                t.array(o), Tape.index(o), t.get(node, 6), 10, def
+            );
+        }
+        return def;
+    }
+
+    /**
+     * Returns the value as {@code long}, or {@code def} value on error
+     */
+    public long toLong(long def) {
+        if (isValue()) {
+            Tape t = tape;
+            int o = t.get(node, 5);
+            return Convert.toLong(
+                t.array(o), Tape.index(o), t.get(node, 6), 10L, def
+            );
+        }
+        return def;
+    }
+
+    /**
+     * Returns the value as {@code double}, or {@code def} value on error
+     */
+    public double toDouble(double def) {
+        if (isValue()) {
+            Tape t = tape;
+            int o = t.get(node, 5);
+            return Convert.toDouble(
+                t.array(o), Tape.index(o), t.get(node, 6), def
+            );
+        }
+        return def;
+    }
+
+    /**
+     * Returns the value as {@code boolean}, or {@code def} value on error
+     */
+    public boolean toBoolean(boolean def) {
+        if (isValue()) {
+            Tape t = tape;
+            int o = t.get(node, 5);
+            return Convert.toBoolean(
+                t.array(o), Tape.index(o), t.get(node, 6), def
+            );
+        }
+        return def;
+    }
+
+    /**
+     * Returns the value as {@code int}, {@code '0'} on error
+     */
+    public int toInt() {
+        return toInt(0);
+    }
+
+    /**
+     * Returns the value as {@code long}, {@code '0L'} on error
+     */
+    public long toLong() {
+        return toLong(0L);
+    }
+
+    /**
+     * Returns the value as {@code double}, {@code '0D'} on error
+     */
+    public double toDouble() {
+        return toDouble(0D);
+    }
+
+    /**
+     * Returns the value as {@code boolean}, {@code 'false'} on error
+     */
+    public boolean toBoolean() {
+        return toBoolean(false);
+    }
+
+    /**
+     * Returns the value of this node, or the text of this
+     * container in the algo of the source, led by its space for kat
+     * and wrapped in its element for xml, without the alias for kat and json
+     */
+    @Override
+    public String toString() {
+        Tape t = tape;
+        if (isValue()) {
+            return t.string(
+                node, 5
+            );
+        }
+
+        int i = t.get(node, 7);
+        if (i != -1) {
+            String raw = new String(
+                t.source, i, t.get(node, 8) - i, UTF_8
+            );
+            if (t.algo != Algo.KAT) {
+                return raw;
+            }
+            return getSpace() + raw;
+        }
+
+        String alias = getAlias();
+        try (Chan chan = t.algo == Algo.DOC ?
+            new Doc() : t.algo == Algo.JSON ? new Json() : new Kat()) {
+            chan.set(
+                alias.isEmpty() ? null : alias, this, this
+            );
+            return chan.toString();
+        } catch (IOException e) {
+            throw new Collapse(
+                "Failed to write " + t.algo, e
+            );
+        }
+    }
+
+    /**
+     * Returns an iterator over the children
+     */
+    @NotNull
+    @Override
+    public Iterator<LazyNode> iterator() {
+        return new Iterator<LazyNode>() {
+            int c = node + 1;
+            final int e = isValue() ? c : tape.get(node, 5);
+
+            @Override
+            public boolean hasNext() {
+                return c < e;
+            }
+
+            @Override
+            public LazyNode next() {
+                int n = c;
+                if (n < e) {
+                    c = tape.next(n);
+                    return new LazyNode(tape, n);
+                }
+                throw new NoSuchElementException();
+            }
+        };
+    }
+
+    @Override
+    public Boolean getFlag() {
+        switch (tape.get(node, 0)) {
+            case MAP: {
+                return Boolean.TRUE;
+            }
+            case LIST: {
+                return Boolean.FALSE;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Numbers, booleans and nulls are not quoted
+     */
+    @Override
+    public Boolean getBorder(
+        @NotNull Flag flag
+    ) {
+        Tape t = tape;
+        int l = t.get(node, 6);
+        if (l == 0) {
+            return t.isNull(node) ? Boolean.FALSE : null;
+        }
+        if (t.get(node, 2) == 1) {
+            switch (t.first(node, 1)) {
+                case 's': {
+                    return null;
+                }
+                case 'b': {
+                    return Boolean.FALSE;
+                }
+            }
+        }
+
+        int o = t.get(node, 5);
+        byte[] it = t.array(o);
+        int i = Tape.index(o);
+        if (Convert.toNumber(it, i, l, null) != null ||
+            (l == 4 && it[i] == 't' && it[i + 1] == 'r' && it[i + 2] == 'u' && it[i + 3] == 'e') ||
+            (l == 5 && it[i] == 'f' && it[i + 1] == 'a' && it[i + 2] == 'l' && it[i + 3] == 's' && it[i + 4] == 'e')) {
+            return Boolean.FALSE;
+        }
+        return null;
+    }
+
+    @Override
+    public void write(
+        @NotNull Flow flow,
+        @NotNull Object value
+    ) throws IOException {
+        LazyNode it = (LazyNode) value;
+        Tape t = it.tape;
+        int n = it.node;
+        int l = t.get(n, 6);
+        if (flow.algo() != Algo.KAT &&
+            t.get(n, 2) == 1 &&
+            t.first(n, 1) == 'b') {
+            // kat writes booleans as 0 or 1
+            byte[] b = it.toBoolean() ?
+                TRUE : FALSE;
+            flow.emit(
+                b, 'B', 0, b.length
+            );
+        } else if (l != 0) {
+            int o = t.get(n, 5);
+            byte[] b = t.array(o);
+            int i = Tape.index(o);
+            if (ascii(b, i, l)) {
+                flow.emit(
+                    b, i, l
+                );
+            } else {
+                // the chars are escaped
+                // by the flags, not bytes
+                flow.emit(
+                    t.string(n, 5)
+                );
+            }
+        } else if (flow.algo() == Algo.JSON &&
+            t.isNull(n)) {
+            flow.emit(
+                NULL, 'B', 0, 4
+            );
+        }
+    }
+
+    @Override
+    public void write(
+        @NotNull Chan chan,
+        @NotNull Object value
+    ) throws IOException {
+        LazyNode it = (LazyNode) value;
+        Tape t = it.tape;
+        int n = it.node;
+
+        // untouched subtree, copied as is
+        // only if the chan doesn't format
+        int i = t.get(n, 7);
+        if (i != -1 &&
+            chan.algo() == t.algo &&
+            chan instanceof Flow &&
+            !chan.isFlag(Flag.PRETTY) &&
+            !chan.isFlag(Flag.UNICODE)) {
+            ((Flow) chan).emit(
+                t.source, 'B', i + 1, t.get(n, 8) - i - 2
+            );
+            return;
+        }
+
+        boolean map = it.isMap();
+        for (LazyNode child : it) {
+            chan.set(
+                map ? child.getAlias() : null, child, child
+            );
+        }
+    }
+
+    /**
+     * Returns true if the specified bytes are all ascii
+     */
+    private static boolean ascii(
+        @NotNull byte[] b, int i, int l
+    ) {
+        for (int e = i + l; i < e; i++) {
+            if (b[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @author kraity
+     * @since 0.0.5
+     */
+    static final class Tape implements Proxy {
+
+        final Algo algo;
+        final byte[] source;
+        ByteReader reader;
+        int mark;
+
+        byte[] bytes = new byte[16];
+        int count;
+
+        // side offsets of the one-byte names
+        final int[] spaces = new int[128];
+
+        int[] tape = new int[STRIDE * 16];
+        int size;
+
+        int[] stack = new int[8];
+        int depth;
+
+        Tape(
+            Algo algo,
+            byte[] source
+        ) {
+            this.algo = algo;
+            this.source = source;
+        }
+
+        int get(int n, int f) {
+            return tape[n * STRIDE + f];
+        }
+
+        /**
+         * Returns the index of the next sibling
+         */
+        int next(int n) {
+            return get(n, 0) == VALUE ? n + 1 : get(n, 5);
+        }
+
+        /**
+         * Returns the array the specified offset is in
+         */
+        byte[] array(int o) {
+            return o < 0 ? bytes : source;
+        }
+
+        /**
+         * Returns the index of the specified offset in its array
+         */
+        static int index(int o) {
+            return o < 0 ? ~o : o;
+        }
+
+        byte first(int n, int f) {
+            int o = get(n, f);
+            return array(o)[index(o)];
+        }
+
+        String string(int n, int f) {
+            int l = get(n, f + 1);
+            if (l == 0) {
+                return "";
+            }
+            int o = get(n, f);
+            return new String(
+                array(o), index(o), l, UTF_8
+            );
+        }
+
+        boolean isNull(int n) {
+            return get(n, 2) == 1 &&
+                first(n, 1) == '$' && get(n, 6) == 0;
+        }
+
+        /**
+         * Returns true if the chain is in the source at the specified index
+         */
+        boolean match(Chain c, int i) {
+            int l = c.length();
+            if (i < 0 || i + l > source.length) {
+                return false;
+            }
+            byte[] v = Unsafe.value(c);
+            byte[] s = source;
+            for (int j = 0; j < l; j++) {
+                if (v[j] != s[i + j]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the offset of the chain read since the last
+         * event, searching the source forward from the mark
+         */
+        int locate(Chain c) {
+            int l = c.length();
+            if (l == 0) {
+                return 0;
+            }
+            if (l == 1) {
+                byte b = c.at(0);
+                if (b >= 0) {
+                    // such as the synthesized spaces
+                    int o = spaces[b];
+                    if (o == 0) {
+                        spaces[b] = o = join(c);
+                    }
+                    return o;
+                }
+            }
+            int e = reader.index() - l;
+            byte b = c.at(0);
+            byte[] s = source;
+            for (int i = mark; i <= e; i++) {
+                if (s[i] == b && match(c, i)) {
+                    return i;
+                }
+            }
+            return join(c);
+        }
+
+        /**
+         * Returns the offset of the value just read, which
+         * ends before the delimiters the solver has consumed
+         */
+        int settle(Chain c) {
+            int l = c.length();
+            if (l == 0) {
+                return 0;
+            }
+            int e = reader.index() - l;
+            for (int i = e - 1; i >= e - 3 && i >= mark; i--) {
+                if (match(c, i)) {
+                    return i;
+                }
+            }
+            if (e >= mark && match(c, e)) {
+                return e;
+            }
+            return join(c);
+        }
+
+        /**
+         * Copies the chain into the side bytes,
+         * returns the complement of its index
+         */
+        int join(Chain a) {
+            int o = count;
+            int l = a.length();
+            if (o + l > bytes.length) {
+                bytes = Arrays.copyOf(
+                    bytes, Math.max(o + l, bytes.length * 2)
+                );
+            }
+            a.getBytes(bytes, o);
+            count = o + l;
+            return ~o;
+        }
+
+        int push(
+            int kind, Space s, Alias a
+        ) {
+            int n = size++;
+            int i = n * STRIDE;
+            if (i + STRIDE > tape.length) {
+                tape = Arrays.copyOf(
+                    tape, tape.length * 2
+                );
+            }
+
+            int[] it = tape;
+            it[i] = kind;
+            it[i + 1] = locate(s);
+            it[i + 2] = s.length();
+            it[i + 3] = locate(a);
+            it[i + 4] = a.length();
+            it[i + 7] = -1;
+            it[i + 8] = -1;
+
+            if (depth != 0) {
+                it[stack[depth - 1] * STRIDE + 6]++;
+            }
+            return n;
+        }
+
+        @Override
+        public boolean attach(
+            @NotNull Space space,
+            @NotNull Alias alias
+        ) {
+            int n = push(
+                MAP, space, alias
+            );
+
+            if (algo != Algo.DOC) {
+                tape[n * STRIDE + 7] =
+                    reader.index() - 1;
+            }
+
+            int d = depth++;
+            if (d == stack.length) {
+                stack = Arrays.copyOf(
+                    stack, d * 2
+                );
+            }
+            stack[d] = n;
+            mark = reader.index();
+            return true;
+        }
+
+        @Override
+        public void submit(
+            @NotNull Space space,
+            @NotNull Alias alias,
+            @NotNull Value value
+        ) {
+            int n = push(
+                VALUE, space, alias
+            );
+            int i = n * STRIDE;
+            tape[i + 5] = settle(value);
+            tape[i + 6] = value.length();
+            mark = reader.index();
+        }
+
+        @Override
+        public boolean detach() {
+            int n = stack[--depth];
+            int i = n * STRIDE;
+            int[] it = tape;
+
+            // kind by the first child,
+            // otherwise by the space
+            if (it[i + 6] != 0) {
+                if (it[(n + 1) * STRIDE + 4] == 0) {
+                    it[i] = LIST;
+                }
+            } else {
+                int l = it[i + 2];
+                if (l == 1) {
+                    byte b = first(n, 1);
+                    if (b == 'L' || b == 'A') {
+                        it[i] = LIST;
+                    }
+                }
+            }
+
+            it[i + 5] = size;
+            if (it[i + 7] != -1) {
+                it[i + 8] = reader.index();
+            }
+            mark = reader.index();
+            return depth != 0;
+        }
+    }
+}
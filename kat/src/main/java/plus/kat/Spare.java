@@ -26,6 +26,12 @@ import plus.kat.stream.*;
 import java.sql.*;
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static plus.kat.Plan.DEF;
 import static plus.kat.Supplier.Impl.INS;
@@ -918,6 +924,98 @@ public interface Spare<K> extends Coder<K> {
         }
     }
 
+    /**
+     * Parse {@link Event} lazily and returns a {@link Stream} of {@link K},
+     * which yields each element of a top-level array, or each document of
+     * newline-delimited json and kat, as soon as it is parsed
+     *
+     * <pre>{@code
+     *   Spare<User> spare = ...
+     *   try (Stream<User> users = spare.stream(
+     *       Algo.JSON, new Event<>(stream)
+     *   )) {
+     *       users.forEach(...);
+     *   }
+     * }</pre>
+     *
+     * @param algo  the specified algo for solve
+     * @param event the specified event to be handled
+     * @throws Collapse             If the reader of event is null
+     * @throws NullPointerException If the specified {@code algo} or {@code event} is null
+     * @see Parser.Sequence
+     * @since 0.0.5
+     */
+    @NotNull
+    default <T extends K> Stream<T> stream(
+        @NotNull Algo algo,
+        @NotNull Event<T> event
+    ) {
+        event.with(this);
+        Parser.Sequence<T> it =
+            new Parser.Sequence<>(
+                algo, event
+            );
+
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                it, Spliterator.ORDERED | Spliterator.NONNULL
+            ), false
+        ).onClose(it::close);
+    }
+
+    /**
+     * Parse {@link Event} and returns the values of {@link K} matched by
+     * the specified json pointer, the subtrees not on the path are skipped
+     *
+     * <pre>{@code
+     *   // {"data":{"items":[{"id":1},{"id":2}]}}
+     *   Spare<User> spare = ...
+     *   List<User> users = spare.extract(
+     *       Algo.JSON, new Event<>(stream), "/data/items/*"
+     *   );
+     * }</pre>
+     *
+     * @param algo  the specified algo for solve
+     * @param event the specified event to be handled
+     * @param path  the specified json pointer, such as {@code /data/items/0/id}
+     * @throws Collapse             If parsing fails
+     * @throws NullPointerException If the specified {@code algo}, {@code event} or {@code path} is null
+     * @see Parser.Select
+     * @since 0.0.5
+     */
+    @NotNull
+    default <T extends K> List<T> extract(
+        @NotNull Algo algo,
+        @NotNull Event<T> event,
+        @NotNull CharSequence path
+    ) {
+        // parser pool
+        Group group = Group.INS;
+
+        // borrow parser
+        Parser parser = group.borrow();
+
+        try {
+            event.with(this);
+            List<T> list = new ArrayList<>();
+            new Parser.Select<T>(
+                parser, path
+            ).read(
+                algo, event, list::add
+            );
+            return list;
+        } catch (Collapse error) {
+            throw error;
+        } catch (Exception error) {
+            throw new Collapse(
+                "Failed to extract " + algo, error
+            );
+        } finally {
+            // returns parser
+            group.retreat(parser);
+        }
+    }
+
     /**
      * Register the {@link Spare} of {@code klass}
      * and returns the previous value associated with {@code klass}
@@ -37,6 +37,7 @@ import java.time.*;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
+import java.util.stream.Stream;
 
 /**
  * @author kraity
@@ -1279,6 +1280,83 @@ public interface Supplier extends Cloneable {
         return spare.solve(algo, event);
     }
 
+    /**
+     * Parse {@link Event} lazily and returns a {@link Stream} of {@link T},
+     * which yields each element of a top-level array or each newline-delimited document
+     *
+     * @param klass the specified klass of element
+     * @param algo  the specified algo for solve
+     * @param event the specified event to be handled
+     * @throws Collapse             If the reader of event is null
+     * @throws FatalCrash           If no spare available for klass is found
+     * @throws NullPointerException If the specified klass, algo or the event is null
+     * @see Spare#stream(Algo, Event)
+     * @since 0.0.5
+     */
+    @NotNull
+    default <E, T extends E> Stream<T> stream(
+        @NotNull Class<E> klass,
+        @NotNull Algo algo,
+        @NotNull Event<T> event
+    ) {
+        Spare<E> spare = lookup(klass);
+
+        if (spare == null) {
+            throw new FatalCrash(
+                "No spare of " + klass
+            );
+        }
+
+        event.with(this);
+        event.prepare(klass);
+
+        return spare.stream(algo, event);
+    }
+
+    /**
+     * Parse {@link Event} and returns the values of {@link T} matched by the specified json pointer
+     *
+     * <pre>{@code
+     *   // {"data":{"items":[{"id":1},{"id":2}]}}
+     *   Supplier supplier = ...
+     *   List<Long> ids = supplier.extract(
+     *       Long.class, Algo.JSON, new Event<>(stream), "/data/items/0/id"
+     *   );
+     * }</pre>
+     *
+     * @param klass the specified klass of values
+     * @param algo  the specified algo for solve
+     * @param event the specified event to be handled
+     * @param path  the specified json pointer, {@code *} matches any child
+     * @throws Collapse             If parsing fails
+     * @throws FatalCrash           If no spare available for klass is found
+     * @throws NullPointerException If the specified klass, algo, event or path is null
+     * @see Spare#extract(Algo, Event, CharSequence)
+     * @since 0.0.5
+     */
+    @NotNull
+    default <E, T extends E> List<T> extract(
+        @NotNull Class<E> klass,
+        @NotNull Algo algo,
+        @NotNull Event<T> event,
+        @NotNull CharSequence path
+    ) {
+        Spare<E> spare = lookup(klass);
+
+        if (spare == null) {
+            throw new FatalCrash(
+                "No spare of " + klass
+            );
+        }
+
+        event.with(this);
+        event.prepare(klass);
+
+        return spare.extract(
+            algo, event, path
+        );
+    }
+
     /**
      * @author kraity
      * @since 0.0.1
@@ -1325,6 +1403,13 @@ public interface Supplier extends Cloneable {
             INS.put(Character.class, CharSpare.INSTANCE);
             INS.put(Number.class, NumberSpare.INSTANCE);
             INS.put(byte[].class, ByteArraySpare.INSTANCE);
+            INS.put(int[].class, IntArraySpare.INSTANCE);
+            INS.put(long[].class, LongArraySpare.INSTANCE);
+            INS.put(float[].class, FloatArraySpare.INSTANCE);
+            INS.put(double[].class, DoubleArraySpare.INSTANCE);
+            INS.put(short[].class, ShortArraySpare.INSTANCE);
+            INS.put(char[].class, CharArraySpare.INSTANCE);
+            INS.put(boolean[].class, BooleanArraySpare.INSTANCE);
             INS.put(Object[].class, ArraySpare.INSTANCE);
             INS.put(Map.class, MapSpare.INSTANCE);
             INS.put(Set.class, SetSpare.INSTANCE);
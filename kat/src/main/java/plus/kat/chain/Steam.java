@@ -16,6 +16,7 @@
 package plus.kat.chain;
 
 import plus.kat.anno.NotNull;
+import plus.kat.anno.Nullable;
 
 import plus.kat.*;
 import plus.kat.kernel.*;
@@ -23,6 +24,11 @@ import plus.kat.stream.*;
 import plus.kat.utils.*;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static plus.kat.stream.Binary.*;
 
@@ -35,6 +41,19 @@ public abstract class Steam extends Alpha implements Flow {
     protected long flags;
     protected short depth;
 
+    /**
+     * sink etc.
+     */
+    protected Sink sink;
+    protected int watermark;
+
+    /**
+     * default watermark of sink
+     */
+    public static final int WATERMARK = Config.get(
+        "kat.steam.watermark", 1024 * 8
+    );
+
     /**
      * Constructs a steam with the specified flags
      *
@@ -62,6 +81,212 @@ public abstract class Steam extends Alpha implements Flow {
         return (flags & flag) == flag;
     }
 
+    /**
+     * Connects the specified {@link OutputStream}, the written bytes are
+     * flushed to it whenever they cross the {@link #WATERMARK}
+     *
+     * @param out the specified stream to be connected
+     * @throws NullPointerException If the specified {@code out} is null
+     * @see #connect(Sink, int)
+     * @since 0.0.5
+     */
+    public void connect(
+        @NotNull OutputStream out
+    ) {
+        connect(
+            out::write, WATERMARK
+        );
+    }
+
+    /**
+     * Connects the specified {@link WritableByteChannel}, the written
+     * bytes are flushed to it whenever they cross the {@link #WATERMARK}
+     *
+     * @param ch the specified channel to be connected
+     * @throws NullPointerException If the specified {@code ch} is null
+     * @see #connect(Sink, int)
+     * @since 0.0.5
+     */
+    public void connect(
+        @NotNull WritableByteChannel ch
+    ) {
+        connect(
+            (b, i, l) -> {
+                ByteBuffer buf =
+                    ByteBuffer.wrap(b, i, l);
+                while (buf.hasRemaining()) {
+                    ch.write(buf);
+                }
+            }, WATERMARK
+        );
+    }
+
+    /**
+     * Connects the specified {@link Sink}, the written bytes are flushed to it
+     * whenever they cross the watermark between two values, so the memory stays bounded
+     * by the watermark and the largest value. Call {@link #flush()} after serializing
+     * to hand over the rest, the bytes already flushed are no longer in this steam
+     *
+     * <pre>{@code
+     *   try (Json json = new Json()) {
+     *       json.connect(out, 8192);
+     *       json.set(null, users);
+     *       json.flush();
+     *   }
+     * }</pre>
+     *
+     * @param sink      the specified sink to be connected
+     * @param watermark the number of bytes to be buffered before flushing
+     * @throws NullPointerException If the specified {@code sink} is null
+     * @since 0.0.5
+     */
+    public void connect(
+        @NotNull Sink sink,
+        int watermark
+    ) {
+        if (sink == null) {
+            throw new NullPointerException();
+        }
+        this.sink = sink;
+        this.watermark = watermark;
+    }
+
+    /**
+     * Writes the buffered bytes to the connected {@link Sink} and
+     * empties this {@link Steam}, does nothing if no sink is connected
+     *
+     * @throws IOException If an I/O error occurs
+     * @since 0.0.5
+     */
+    public void flush()
+        throws IOException {
+        Sink s = sink;
+        if (s != null && count != 0) {
+            s.write(
+                value, 0, count
+            );
+            reset();
+        }
+    }
+
+    /**
+     * Flushes the buffered bytes if they cross the watermark,
+     * only called between two values, where no offset of the buffer is held
+     *
+     * @throws IOException If an I/O error occurs
+     * @since 0.0.5
+     */
+    protected void spill()
+        throws IOException {
+        if (sink != null &&
+            count >= watermark) {
+            flush();
+        }
+    }
+
+    /**
+     * Returns the table of ascii chars escaped by {@link #emit(byte)},
+     * the runs of others are copied directly, or null to emit one by one
+     *
+     * @see Binary#table(char...)
+     * @since 0.0.5
+     */
+    @Nullable
+    protected boolean[] table() {
+        return null;
+    }
+
+    /**
+     * Copies the run of unescaped ascii chars from the specified index
+     * and returns the index of the first char that is not copied
+     *
+     * @param i the specified start index, inclusive
+     * @param k the specified end index, exclusive
+     */
+    private int plain(
+        @NotNull char[] data,
+        int i, int k,
+        @NotNull boolean[] tab
+    ) {
+        byte[] it = value;
+        int size = count + k - i;
+        if (size > it.length) {
+            it = grow(size);
+        }
+
+        int n = count;
+        for (; i < k; i++) {
+            char c = data[i];
+            if (c >= 0x80 || tab[c]) {
+                break;
+            }
+            it[n++] = (byte) c;
+        }
+        count = n;
+        return i;
+    }
+
+    /**
+     * Copies the run of unescaped ascii chars from the specified index
+     * and returns the index of the first char that is not copied
+     *
+     * @param i the specified start index, inclusive
+     * @param k the specified end index, exclusive
+     */
+    private int plain(
+        @NotNull CharSequence data,
+        int i, int k,
+        @NotNull boolean[] tab
+    ) {
+        byte[] it = value;
+        int size = count + k - i;
+        if (size > it.length) {
+            it = grow(size);
+        }
+
+        int n = count;
+        for (; i < k; i++) {
+            char c = data.charAt(i);
+            if (c >= 0x80 || tab[c]) {
+                break;
+            }
+            it[n++] = (byte) c;
+        }
+        count = n;
+        return i;
+    }
+
+    /**
+     * Copies the run of unescaped ascii bytes from the specified index
+     * and returns the index of the first byte that is not copied
+     *
+     * @param i the specified start index, inclusive
+     * @param k the specified end index, exclusive
+     */
+    private int plain(
+        @NotNull byte[] data,
+        int i, int k,
+        @NotNull boolean[] tab
+    ) {
+        int n = i;
+        for (; n < k; n++) {
+            byte b = data[n];
+            if (b < 0 || tab[b]) {
+                break;
+            }
+        }
+
+        int l = n - i;
+        if (l != 0) {
+            System.arraycopy(
+                data, i, grow(count + l), count, l
+            );
+            asset = 0;
+            count += l;
+        }
+        return n;
+    }
+
     /**
      * Concatenates the format an integer value
      * (treated as unsigned) to this {@link Steam}
@@ -226,22 +451,18 @@ public abstract class Steam extends Alpha implements Flow {
      *
      * @param num the specified number to be appended
      */
-    @SuppressWarnings("deprecation")
     public void emit(
         float num
     ) {
-        String data =
-            Float.toString(num);
-        int len = data.length();
-        int now = count;
-        int size = now + len;
         byte[] it = value;
+        int size = count + Decimal.SIZE;
         if (size > it.length) {
             it = grow(size);
         }
         asset = 0;
-        count = size;
-        data.getBytes(0, len, it, now);
+        count = Decimal.write(
+            it, count, num
+        );
     }
 
     /**
@@ -250,22 +471,18 @@ public abstract class Steam extends Alpha implements Flow {
      *
      * @param num the specified number to be appended
      */
-    @SuppressWarnings("deprecation")
     public void emit(
         double num
     ) {
-        String data =
-            Double.toString(num);
-        int len = data.length();
-        int now = count;
-        int size = now + len;
         byte[] it = value;
+        int size = count + Decimal.SIZE;
         if (size > it.length) {
             it = grow(size);
         }
         asset = 0;
-        count = size;
-        data.getBytes(0, len, it, now);
+        count = Decimal.write(
+            it, count, num
+        );
     }
 
     /**
@@ -311,7 +528,7 @@ public abstract class Steam extends Alpha implements Flow {
     public void emit(
         @NotNull byte[] data
     ) throws IOException {
-        for (byte b : data) emit(b);
+        emit(data, 0, data.length);
     }
 
     /**
@@ -326,7 +543,14 @@ public abstract class Steam extends Alpha implements Flow {
     ) throws IOException {
         int k = i + l;
         if (0 <= i && 0 <= l && k <= data.length) {
+            boolean[] tab = table();
             while (i < k) {
+                if (tab != null) {
+                    i = plain(
+                        data, i, k, tab
+                    );
+                    if (i == k) break;
+                }
                 emit(data[i++]);
             }
         } else {
@@ -355,7 +579,14 @@ public abstract class Steam extends Alpha implements Flow {
                     asset = 0;
                     count += l;
                 } else {
+                    boolean[] tab = table();
                     while (i < k) {
+                        if (tab != null) {
+                            i = plain(
+                                data, i, k, tab
+                            );
+                            if (i == k) break;
+                        }
                         emit(data[i++]);
                     }
                 }
@@ -425,9 +656,16 @@ public abstract class Steam extends Alpha implements Flow {
         if (0 <= i && 0 <= l && k <= data.length) {
             if (l != 0) {
                 asset = 0;
+                boolean[] tab = table();
                 if ((flags & 2) == 2) {
                     byte esc = algo().esc();
                     do {
+                        if (tab != null) {
+                            i = plain(
+                                data, i, k, tab
+                            );
+                            if (i == k) break;
+                        }
                         char ch = data[i++];
                         if (ch < 0x80) {
                             emit((byte) ch);
@@ -447,6 +685,12 @@ public abstract class Steam extends Alpha implements Flow {
                     } while (i < k);
                 } else {
                     do {
+                        if (tab != null) {
+                            i = plain(
+                                data, i, k, tab
+                            );
+                            if (i == k) break;
+                        }
                         // next char
                         char code = data[i++];
 
@@ -531,14 +775,9 @@ public abstract class Steam extends Alpha implements Flow {
     public void emit(
         @NotNull Chain data
     ) throws IOException {
-        int size = data.length();
-        if (size != 0) {
-            int i = 0;
-            byte[] it = Unsafe.value(data);
-            while (i < size) {
-                emit(it[i++]);
-            }
-        }
+        emit(
+            data, 0, data.length()
+        );
     }
 
     /**
@@ -554,7 +793,14 @@ public abstract class Steam extends Alpha implements Flow {
         int k = i + l;
         if (0 <= i && 0 <= l && k <= data.length()) {
             byte[] it = Unsafe.value(data);
+            boolean[] tab = table();
             while (i < k) {
+                if (tab != null) {
+                    i = plain(
+                        it, i, k, tab
+                    );
+                    if (i == k) break;
+                }
                 emit(it[i++]);
             }
         } else {
@@ -591,9 +837,16 @@ public abstract class Steam extends Alpha implements Flow {
         if (0 <= i && 0 <= l && k <= data.length()) {
             if (l != 0) {
                 asset = 0;
+                boolean[] tab = table();
                 if ((flags & 2) == 2) {
                     byte esc = algo().esc();
                     do {
+                        if (tab != null) {
+                            i = plain(
+                                data, i, k, tab
+                            );
+                            if (i == k) break;
+                        }
                         char ch = data.charAt(i++);
                         if (ch < 0x80) {
                             emit((byte) ch);
@@ -613,6 +866,12 @@ public abstract class Steam extends Alpha implements Flow {
                     } while (i < k);
                 } else {
                     do {
+                        if (tab != null) {
+                            i = plain(
+                                data, i, k, tab
+                            );
+                            if (i == k) break;
+                        }
                         // next char
                         char code = data.charAt(i++);
 
@@ -687,47 +946,136 @@ public abstract class Steam extends Alpha implements Flow {
         }
     }
 
+    /**
+     * @author kraity
+     * @since 0.0.5
+     */
+    @FunctionalInterface
+    public interface Sink {
+        /**
+         * Writes the specified bytes flushed by {@link Steam}
+         *
+         * @param b the specified buffer, which must not be retained
+         * @param i the specified offset
+         * @param l the specified length
+         * @throws IOException If an I/O error occurs
+         */
+        void write(
+            @NotNull byte[] b, int i, int l
+        ) throws IOException;
+    }
+
     /**
      * @author kraity
      * @since 0.0.4
      */
     public static class Buffer implements Bucket {
 
-        private static final int SIZE, GROUP, SCALE;
+        private static final int SIZE, SCALE, LIMIT, GROUP;
+        private static final long BUDGET;
 
         static {
-            SIZE = Config.get(
-                "kat.paper.size", 4
+            int size = Config.get(
+                "kat.paper.size", Runtime
+                    .getRuntime().availableProcessors()
+            );
+            if (size < 1) {
+                size = 1;
+            } else if (size > 256) {
+                size = 256;
+            }
+            SIZE = Integer.highestOneBit(
+                (size << 1) - 1
             );
-            GROUP = Config.get(
-                "kat.paper.group", 4
+            SCALE = ceil(
+                Config.get(
+                    "kat.paper.scale", 1024
+                )
             );
-            SCALE = Config.get(
-                "kat.paper.scale", 1024
+            int limit = ceil(
+                Config.get(
+                    "kat.paper.limit", 1024 * 1024
+                )
+            );
+            LIMIT = Math.max(
+                limit, SCALE
+            );
+            GROUP = Integer.numberOfTrailingZeros(LIMIT)
+                - Integer.numberOfTrailingZeros(SCALE) + 1;
+            BUDGET = Config.get(
+                "kat.paper.budget", 1024L * 1024 * 16
             );
         }
 
+        /**
+         * Slots are spread apart so that
+         * neighbouring stripes don't share a cache line
+         */
+        private static final int SHIFT = 4;
+
         public static final Buffer
             INS = new Buffer();
 
-        private final byte[][]
-            bucket = new byte[SIZE * GROUP][];
+        private final AtomicLong
+            usage = new AtomicLong();
+
+        private final AtomicReferenceArray<byte[]>
+            bucket = new AtomicReferenceArray<>((GROUP * SIZE) << SHIFT);
+
+        /**
+         * Returns the power of two that is
+         * not less than the specified size, at most 2^30
+         */
+        private static int ceil(
+            int size
+        ) {
+            if (size <= 1) {
+                return 1;
+            }
+            if (size >= 1 << 30) {
+                return 1 << 30;
+            }
+            return Integer.highestOneBit(
+                (size - 1) << 1
+            );
+        }
+
+        /**
+         * Returns the slot index of the specified size class
+         *
+         * @param size the length of buffer, a power of two within [SCALE, LIMIT]
+         */
+        private static int index(
+            int size
+        ) {
+            int h = Thread.currentThread().hashCode();
+            int g = Integer.numberOfTrailingZeros(size)
+                - Integer.numberOfTrailingZeros(SCALE);
+            return (g * SIZE + ((h ^ (h >>> 16)) & (SIZE - 1))) << SHIFT;
+        }
 
         @Override
         public boolean join(
             @NotNull byte[] it
         ) {
-            int i = it.length / SCALE;
-            if (i < GROUP) {
-                Thread th = Thread.currentThread();
-                int tr = th.hashCode() & 0xFFFFFF;
-                int ix = i * GROUP + tr % SIZE;
-                synchronized (this) {
-                    bucket[ix] = it;
-                }
-                return true;
+            int size = it.length;
+            if (size < SCALE || size > LIMIT ||
+                (size & (size - 1)) != 0) {
+                return false;
+            }
+
+            if (usage.addAndGet(size) > BUDGET) {
+                usage.addAndGet(-size);
+                return false;
             }
-            return false;
+
+            byte[] old = bucket.getAndSet(
+                index(size), it
+            );
+            if (old != null) {
+                usage.addAndGet(-old.length);
+            }
+            return true;
         }
 
         @Override
@@ -743,37 +1091,31 @@ public abstract class Steam extends Alpha implements Flow {
             @NotNull byte[] it, int len, int size
         ) {
             byte[] data;
-            int i = size / SCALE;
-
-            Thread th = Thread.currentThread();
-            int tr = th.hashCode() & 0xFFFFFF;
-
-            if (i >= GROUP) {
-                data = new byte[(i + 1) * SCALE - 1];
-            } else {
-                int ix = i * GROUP + tr % SIZE;
-                synchronized (this) {
-                    data = bucket[ix];
-                    bucket[ix] = null;
+            if (size <= LIMIT) {
+                int cap = size < SCALE
+                    ? SCALE : ceil(size);
+                data = bucket.getAndSet(
+                    index(cap), null
+                );
+                if (data == null) {
+                    data = new byte[cap];
+                } else {
+                    usage.addAndGet(-cap);
                 }
-                if (data == null ||
-                    data.length < size) {
-                    data = new byte[(i + 1) * SCALE - 1];
+            } else {
+                int cap = it.length +
+                    (it.length >> 1);
+                if (cap < size) {
+                    cap = size;
                 }
+                data = new byte[cap];
             }
 
             if (it.length != 0) {
                 System.arraycopy(
                     it, 0, data, 0, len
                 );
-
-                i = it.length / SCALE;
-                if (i < GROUP) {
-                    int ix = i * GROUP + tr % SIZE;
-                    synchronized (this) {
-                        bucket[ix] = it;
-                    }
-                }
+                join(it);
             }
 
             return data;
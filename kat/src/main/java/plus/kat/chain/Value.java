@@ -652,11 +652,13 @@ public class Value extends Alpha {
                 return it;
             }
 
+            if (i >= SIZE) {
+                return EMPTY_BYTES;
+            }
+
             byte[] data;
             synchronized (this) {
-                if (i < SIZE) {
-                    bucket[i] = it;
-                }
+                bucket[i] = it;
                 data = bucket[i];
                 bucket[i] = null;
             }
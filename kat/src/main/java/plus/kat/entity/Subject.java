@@ -146,6 +146,44 @@ public interface Subject<K> extends Spare<K>, Maker<K> {
         return null;
     }
 
+    /**
+     * Returns a set-capable {@link Member} of the specified
+     * property {@code alias}, the member expected at the {@code hint}
+     * position of the writing order is compared first
+     *
+     * @param alias the property alias of the bean
+     * @param hint  the position of the alias in the payload
+     * @return {@link Member} or {@code null}
+     * @throws NullPointerException If the specified alias is null
+     * @since 0.0.5
+     */
+    @Nullable
+    default Member<K, ?> set(
+        @NotNull Alias alias,
+        int hint
+    ) {
+        return set(alias);
+    }
+
+    /**
+     * Returns a set-capable {@link Member} of the specified
+     * parameter {@code alias}, the member expected at the {@code hint}
+     * position of the writing order is compared first
+     *
+     * @param alias the parameter alias of the bean
+     * @param hint  the position of the alias in the payload
+     * @return {@link Member} or {@code null}
+     * @throws NullPointerException If the specified alias is null
+     * @since 0.0.5
+     */
+    @Nullable
+    default Member<Object[], ?> arg(
+        @NotNull Alias alias,
+        int hint
+    ) {
+        return arg(alias);
+    }
+
     /**
      * Returns a set-capable {@link Member}
      * of the specified parameter {@code name}
@@ -532,6 +570,27 @@ public interface Subject<K> extends Spare<K>, Maker<K> {
             );
         }
 
+        /**
+         * Parses the {@link Value} by the specified {@link Coder}
+         * and sets the result to the bean
+         *
+         * @throws IOException If an I/O error occurs
+         * @see Setter#invoke(Object, Object)
+         * @since 0.0.5
+         */
+        default boolean decode(
+            @NotNull K bean,
+            @NotNull Coder<?> coder,
+            @NotNull Flag flag,
+            @NotNull Value value
+        ) throws IOException {
+            return invoke(
+                bean, coder.read(
+                    flag, value
+                )
+            );
+        }
+
         /**
          * Returns {@code true} if processed
          */
@@ -657,9 +716,8 @@ public interface Subject<K> extends Spare<K>, Maker<K> {
             @NotNull Value value
         ) throws IOException {
             int i = index++;
-            setter = subject.set(
-                alias.isEmpty() ? i : alias
-            );
+            setter = alias.isEmpty() ? subject.set(i)
+                : subject.set(alias, i);
 
             if (setter != null) {
                 Coder<?> coder = setter
@@ -668,10 +726,8 @@ public interface Subject<K> extends Spare<K>, Maker<K> {
                     );
 
                 if (coder != null) {
-                    setter.invoke(
-                        bean, coder.read(
-                            event, value
-                        )
+                    setter.decode(
+                        bean, coder, event, value
                     );
                 }
             }
@@ -702,9 +758,8 @@ public interface Subject<K> extends Spare<K>, Maker<K> {
             @NotNull Alias alias
         ) throws IOException {
             int i = index++;
-            setter = subject.set(
-                alias.isEmpty() ? i : alias
-            );
+            setter = alias.isEmpty() ? subject.set(i)
+                : subject.set(alias, i);
 
             if (setter != null) {
                 Coder<?> coder = setter
@@ -782,9 +837,8 @@ public interface Subject<K> extends Spare<K>, Maker<K> {
             @NotNull Value value
         ) throws IOException {
             int i = index++;
-            setter = subject.arg(
-                alias.isEmpty() ? i : alias
-            );
+            setter = alias.isEmpty() ? subject.arg(i)
+                : subject.arg(alias, i);
 
             if (setter != null) {
                 Coder<?> coder = setter
@@ -827,9 +881,8 @@ public interface Subject<K> extends Spare<K>, Maker<K> {
             @NotNull Alias alias
         ) throws IOException {
             int i = index++;
-            setter = subject.arg(
-                alias.isEmpty() ? i : alias
-            );
+            setter = alias.isEmpty() ? subject.arg(i)
+                : subject.arg(alias, i);
 
             if (setter != null) {
                 Coder<?> coder = setter
@@ -954,9 +1007,8 @@ public interface Subject<K> extends Spare<K>, Maker<K> {
             @NotNull Value value
         ) throws IOException {
             int i = index++;
-            target = subject.arg(
-                alias.isEmpty() ? i : alias
-            );
+            target = alias.isEmpty() ? subject.arg(i)
+                : subject.arg(alias, i);
 
             if (target != null) {
                 Coder<?> coder = target
@@ -972,9 +1024,8 @@ public interface Subject<K> extends Spare<K>, Maker<K> {
                     );
                 }
             } else {
-                setter = subject.set(
-                    alias.isEmpty() ? i : alias
-                );
+                setter = alias.isEmpty() ? subject.set(i)
+                    : subject.set(alias, i);
 
                 if (setter != null) {
                     Coder<?> coder = setter
@@ -1034,9 +1085,8 @@ public interface Subject<K> extends Spare<K>, Maker<K> {
             @NotNull Alias alias
         ) throws IOException {
             int i = index++;
-            target = subject.arg(
-                alias.isEmpty() ? i : alias
-            );
+            target = alias.isEmpty() ? subject.arg(i)
+                : subject.arg(alias, i);
 
             Coder<?> coder;
             if (target != null) {
@@ -1049,9 +1099,8 @@ public interface Subject<K> extends Spare<K>, Maker<K> {
                     );
                 }
             } else {
-                setter = subject.set(
-                    alias.isEmpty() ? i : alias
-                );
+                setter = alias.isEmpty() ? subject.set(i)
+                    : subject.set(alias, i);
 
                 if (setter != null) {
                     coder = setter.deserialize(
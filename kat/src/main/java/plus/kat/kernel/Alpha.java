@@ -24,6 +24,8 @@ import plus.kat.utils.*;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * @author kraity
@@ -163,7 +165,6 @@ public class Alpha extends Chain {
             if (size > it.length) {
                 it = grow(size);
             }
-            arch = 0x3A;
             it[count++] = '-';
         }
 
@@ -172,7 +173,7 @@ public class Alpha extends Chain {
             if (count == it.length) {
                 it = grow(count + 1);
             }
-            it[count++] = (byte) (arch + (num % 10));
+            it[count++] = (byte) (num < 0 ? arch - num % 10 : arch + num % 10);
         } while (
             (num /= 10) != 0
         );
@@ -200,7 +201,6 @@ public class Alpha extends Chain {
             if (size > it.length) {
                 it = grow(size);
             }
-            arch = 0x3AL;
             it[count++] = '-';
         }
 
@@ -209,7 +209,7 @@ public class Alpha extends Chain {
             if (count == it.length) {
                 it = grow(count + 1);
             }
-            it[count++] = (byte) (arch + (num % 10L));
+            it[count++] = (byte) (num < 0 ? arch - num % 10L : arch + num % 10L);
         } while (
             (num /= 10L) != 0L
         );
@@ -365,6 +365,27 @@ public class Alpha extends Chain {
         }
     }
 
+    /**
+     * Concatenates the remaining bytes of the buffer
+     * to this {@link Alpha}, the position of the buffer reaches its limit
+     *
+     * @param b the specified source to be joined
+     * @throws NullPointerException If the specified buffer is null
+     * @since 0.0.5
+     */
+    public void join(
+        @NotNull ByteBuffer b
+    ) {
+        int l = b.remaining();
+        if (l != 0) {
+            b.get(
+                grow(count + l), count, l
+            );
+            asset = 0;
+            count += l;
+        }
+    }
+
     /**
      * Concatenates the chain to this
      * {@link Alpha}, copy it directly
@@ -790,38 +811,52 @@ public class Alpha extends Chain {
         public static final int SIZE, SCALE;
 
         static {
-            SIZE = Config.get(
-                "kat.memory.size", 4
+            int size = Config.get(
+                "kat.memory.size", Runtime
+                    .getRuntime().availableProcessors()
+            );
+            if (size < 1) {
+                size = 1;
+            } else if (size > 256) {
+                size = 256;
+            }
+            // rounded up to a power of two
+            SIZE = Integer.highestOneBit(
+                (size << 1) - 1
             );
             SCALE = Config.get(
                 "kat.memory.scale", 1024 * 4
             );
         }
 
+        /**
+         * Slots are spread apart so that
+         * neighbouring stripes don't share a cache line
+         */
+        private static final int SHIFT = 4;
+
         public static final Memory
             INS = new Memory();
 
-        private final byte[][]
-            bucket = new byte[SIZE][];
+        private final AtomicReferenceArray<byte[]>
+            bucket = new AtomicReferenceArray<>(SIZE << SHIFT);
+
+        /**
+         * Returns the slot index of the current thread
+         */
+        private static int index() {
+            int h = Thread.currentThread().hashCode();
+            return ((h ^ (h >>> 16)) & (SIZE - 1)) << SHIFT;
+        }
 
         @NotNull
         public byte[] alloc() {
-            Thread th = Thread.currentThread();
-            int tr = th.hashCode() & 0xFFFFFF;
-
-            byte[] it;
-            int ix = tr % SIZE;
-
-            synchronized (this) {
-                it = bucket[ix];
-                bucket[ix] = null;
-            }
-
-            if (it != null &&
-                SCALE <= it.length) {
+            byte[] it = bucket.getAndSet(
+                index(), null
+            );
+            if (it != null) {
                 return it;
             }
-
             return new byte[SCALE];
         }
 
@@ -830,11 +865,9 @@ public class Alpha extends Chain {
             @Nullable byte[] it
         ) {
             if (it != null && SCALE == it.length) {
-                Thread th = Thread.currentThread();
-                int ix = (th.hashCode() & 0xFFFFFF) % SIZE;
-                synchronized (this) {
-                    bucket[ix] = it;
-                }
+                bucket.lazySet(
+                    index(), it
+                );
                 return true;
             }
             return false;
@@ -852,17 +885,12 @@ public class Alpha extends Chain {
         public byte[] alloc(
             @NotNull byte[] it, int len, int size
         ) {
-            Thread th = Thread.currentThread();
-            int ix = (th.hashCode() & 0xFFFFFF) % SIZE;
-
             byte[] data;
             if (size <= SCALE) {
-                synchronized (this) {
-                    data = bucket[ix];
-                    bucket[ix] = null;
-                }
-                if (data == null ||
-                    SCALE > it.length) {
+                data = bucket.getAndSet(
+                    index(), null
+                );
+                if (data == null) {
                     data = new byte[SCALE];
                 }
                 if (it.length != 0) {
@@ -883,9 +911,9 @@ public class Alpha extends Chain {
                     );
 
                     if (SCALE == it.length) {
-                        synchronized (this) {
-                            bucket[ix] = it;
-                        }
+                        bucket.lazySet(
+                            index(), it
+                        );
                     }
                 }
             }
@@ -606,6 +606,22 @@ public abstract class Chain implements CharSequence, Comparable<CharSequence> {
         }
     }
 
+    /**
+     * Copy this {@link Chain} into the specified {@code byte} array
+     *
+     * @param dst   the specified array to be copied into
+     * @param index the specified start index of the array
+     * @throws IndexOutOfBoundsException If the array has no room for this chain
+     * @since 0.0.5
+     */
+    public void getBytes(
+        @NotNull byte[] dst, int index
+    ) {
+        System.arraycopy(
+            value, 0, dst, index, count
+        );
+    }
+
     /**
      * Parses this {@link Chain} as a signed decimal {@code int}
      *
@@ -33,6 +33,13 @@ public class Dotry implements Solver {
         LT = '<', GT = '>', AMP = '&',
         APOS = '\'', QUOT = '"', SLASH = '/';
 
+    /**
+     * skip tables
+     */
+    private static final boolean[]
+        BODY = Binary.table('<', '>', '/', '"'),
+        TEXT = Binary.table('"');
+
     /**
      * snapshot
      */
@@ -40,6 +47,14 @@ public class Dotry implements Solver {
     protected final Alias alias;
     protected final Value value;
 
+    /**
+     * resumable state, the depth of the skipped
+     * body, where it is in that body, and the
+     * length of alias and value at the last mark
+     */
+    protected byte skip;
+    protected int level, keep, hold;
+
     /**
      * Constructs a sodar with the specified radar
      *
@@ -114,19 +129,39 @@ public class Dotry implements Solver {
         Alias a = alias;
         Value v = value;
 
+        if (skip != 0) {
+            // resumed in a skipped body
+            a.reset();
+            v.reset();
+            washing(level, r);
+        } else {
+            // resumed from a mark
+            a.slip(keep);
+            v.slip(hold);
+        }
+
         Boot:
-        // decode xml stream
-        while (r.also()) {
-            byte b = r.read();
-            if (b != LT) {
-                if (b != AMP) {
-                    v.join(b);
-                } else {
+        // decode xml stream,
+        // and mark each resumable point
+        while (true) {
+            keep = a.length();
+            hold = v.length();
+            r.mark();
+            if (!r.also()) {
+                break;
+            }
+
+            int m = r.read(
+                v, LT, AMP
+            );
+            if (m != LT) {
+                if (m == AMP) {
                     escape(v, r);
                 }
                 continue;
             }
 
+            byte b = LT;
             byte c = r.next();
             switch (c) {
                 case '?': {
@@ -146,6 +181,7 @@ public class Dotry implements Solver {
                             }
                             p.detach();
                             v.reset();
+                            r.mark();
                             continue Boot;
                         }
                     } else {
@@ -158,6 +194,7 @@ public class Dotry implements Solver {
                                 );
                                 a.reset();
                                 v.reset();
+                                r.mark();
                                 continue Boot;
                             }
 
@@ -179,6 +216,7 @@ public class Dotry implements Solver {
                             a.reset();
                             v.reset();
                             washing(2, r);
+                            r.mark();
                             continue;
                         }
                     }
@@ -212,11 +250,13 @@ public class Dotry implements Solver {
                             );
                             a.reset();
                             v.reset();
+                            r.mark();
                             continue Boot;
                         } else {
                             a.reset();
                             v.reset();
                             washing(1, r);
+                            r.mark();
                             continue Boot;
                         }
                     }
@@ -237,7 +277,6 @@ public class Dotry implements Solver {
         @NotNull Proxy p,
         @NotNull Reader r
     ) throws IOException {
-        Boot:
         while (true) {
             byte b = r.next();
 
@@ -267,19 +306,19 @@ public class Dotry implements Solver {
 
             b = r.next();
             if (b == QUOT) {
-                while (true) {
-                    b = r.next();
-                    if (b != QUOT) {
-                        v.join(b);
-                        continue;
+                while (r.read(v, QUOT, QUOT) == -1) {
+                    if (!r.also()) {
+                        throw new ReaderCrash(
+                            "Unexpectedly, no readable byte"
+                        );
                     }
-                    p.submit(
-                        s.as('s'), a, v
-                    );
-                    a.reset();
-                    v.reset();
-                    continue Boot;
                 }
+                p.submit(
+                    s.as('s'), a, v
+                );
+                a.reset();
+                v.reset();
+                continue;
             }
 
             throw new SolverCrash(
@@ -486,7 +525,8 @@ public class Dotry implements Solver {
     }
 
     /**
-     * Filter out the useless body
+     * Filter out the useless body, which is
+     * resumable at each step from its state
      *
      * @throws IOException If an I/O error occurs
      */
@@ -494,14 +534,30 @@ public class Dotry implements Solver {
         int i,
         Reader r
     ) throws IOException {
-        boolean in = true;
+        // in a tag, out of it, or in its text
+        byte t = skip == 0 ? LT : skip;
         Boot:
-        while (r.also()) {
-            byte b = r.read();
-            switch (b) {
+        while (true) {
+            skip = t;
+            level = i;
+            r.mark();
+            if (!r.also()) {
+                skip = 0;
+                return;
+            }
+
+            if (t == QUOT) {
+                if (r.skip(TEXT) == QUOT) {
+                    t = LT;
+                }
+                continue;
+            }
+
+            switch (r.skip(BODY)) {
                 case '>': {
-                    in = false;
+                    t = GT;
                     if (i == 0) {
+                        skip = 0;
                         return;
                     } else {
                         continue;
@@ -515,7 +571,7 @@ public class Dotry implements Solver {
                         }
                         case '/': {
                             i--;
-                            in = true;
+                            t = LT;
                             continue;
                         }
                         case '!': {
@@ -539,20 +595,24 @@ public class Dotry implements Solver {
                         }
                         default: {
                             i++;
-                            in = false;
+                            t = LT;
                             continue;
                         }
                     }
                 }
                 case '/': {
-                    if (in && r.next() == '>') i--;
+                    if (t == LT && r.next() == '>') {
+                        t = GT;
+                        if (--i == 0) {
+                            skip = 0;
+                            return;
+                        }
+                    }
                     continue;
                 }
                 case '"': {
-                    if (in) while (true) {
-                        if (r.next() == '"') {
-                            continue Boot;
-                        }
+                    if (t == LT) {
+                        t = QUOT;
                     }
                 }
             }
@@ -564,6 +624,10 @@ public class Dotry implements Solver {
      */
     @Override
     public void clear() {
+        skip = 0;
+        level = 0;
+        keep = 0;
+        hold = 0;
         space.reset();
         alias.reset();
         value.clear();
@@ -574,6 +638,10 @@ public class Dotry implements Solver {
      */
     @Override
     public void close() {
+        skip = 0;
+        level = 0;
+        keep = 0;
+        hold = 0;
         space.close();
         alias.close();
         value.close();
@@ -0,0 +1,424 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.kernel;
+
+import plus.kat.anno.NotNull;
+
+import plus.kat.chain.*;
+import plus.kat.crash.*;
+import plus.kat.stream.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static plus.kat.kernel.Chain.EMPTY_BYTES;
+
+/**
+ * A push parsing driver, the bytes are fed as they arrive
+ * instead of being pulled from a blocking {@link Reader}
+ * <p>
+ * The {@link Solver} marks the points where it can resume, when the fed
+ * bytes run out the solver is interrupted and reruns from the last mark
+ * once more bytes arrive, the {@link Proxy} calls already delivered since
+ * that mark are replayed with their recorded results instead of being
+ * delivered twice. So only the bytes since the last mark are retained
+ * <p>
+ * The solvers also mark inside skipped bodies and long values, keeping
+ * the skip depth, the quote and the chain in their own state, and the
+ * bulk {@link #read(Alpha, byte, byte)} and {@link #skip(boolean[])}
+ * consume the fed bytes at hand instead of waiting for a delimiter.
+ * So a large subtree or value is scanned once and not retained
+ *
+ * @author kraity
+ * @since 0.0.5
+ */
+public class Feeder implements Reader, Proxy {
+
+    public static final int NEED_MORE_INPUT = 0;
+    public static final int COMPLETE = 1;
+
+    /**
+     * Interrupts the solver, preallocated without the stack trace
+     */
+    private static final IOException
+        UNDERFLOW = new Underflow();
+
+    protected final Proxy proxy;
+    protected final Solver solver;
+
+    private byte[] cache = EMPTY_BYTES;
+    private int index, offset, marker;
+
+    private int depth;
+    private int count, cursor;
+    private boolean[] record = new boolean[8];
+
+    private boolean eof, complete;
+
+    /**
+     * @param solver the specified solver to be driven
+     * @param proxy  the specified proxy to receive the calls
+     * @throws NullPointerException If the specified {@code solver} or {@code proxy} is null
+     */
+    public Feeder(
+        @NotNull Solver solver,
+        @NotNull Proxy proxy
+    ) {
+        if (solver == null ||
+            proxy == null) {
+            throw new NullPointerException();
+        }
+
+        this.proxy = proxy;
+        this.solver = solver;
+    }
+
+    /**
+     * Feeds the specified bytes and parses as far as possible
+     *
+     * @param b the specified bytes to be fed
+     * @param i the specified offset of the bytes
+     * @param l the specified length of the bytes
+     * @return {@link #COMPLETE} or {@link #NEED_MORE_INPUT}
+     * @throws IOException               If parsing fails
+     * @throws IndexOutOfBoundsException If the offset or length is out of range
+     */
+    public int feed(
+        @NotNull byte[] b, int i, int l
+    ) throws IOException {
+        if (i < 0 || l < 0 || i + l > b.length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (complete) {
+            return COMPLETE;
+        }
+
+        System.arraycopy(
+            b, i, ensure(l), offset, l
+        );
+        offset += l;
+        return run();
+    }
+
+    /**
+     * Feeds the remaining bytes of the specified buffer
+     * and parses as far as possible, the buffer is drained
+     *
+     * @param b the specified buffer to be fed
+     * @return {@link #COMPLETE} or {@link #NEED_MORE_INPUT}
+     * @throws IOException If parsing fails
+     */
+    public int feed(
+        @NotNull ByteBuffer b
+    ) throws IOException {
+        if (complete) {
+            return COMPLETE;
+        }
+
+        int l = b.remaining();
+        b.get(
+            ensure(l), offset, l
+        );
+        offset += l;
+        return run();
+    }
+
+    /**
+     * Signals the end of input and parses the rest
+     *
+     * @return {@link #COMPLETE}
+     * @throws IOException If parsing fails or the input ends in the middle
+     */
+    public int finish()
+        throws IOException {
+        eof = true;
+        return run();
+    }
+
+    /**
+     * Returns true if the document is completely parsed
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Reruns the solver from the last mark
+     */
+    protected int run()
+        throws IOException {
+        if (complete) {
+            return COMPLETE;
+        }
+
+        index = marker;
+        cursor = 0;
+
+        try {
+            solver.read(
+                this, this
+            );
+        } catch (IOException e) {
+            if (e != UNDERFLOW) {
+                throw e;
+            }
+            return NEED_MORE_INPUT;
+        }
+
+        if (complete) {
+            return COMPLETE;
+        }
+
+        if (eof) {
+            throw new ReaderCrash(
+                "Unexpectedly, the input ended before the document completed, the depth is " + depth
+            );
+        }
+        return NEED_MORE_INPUT;
+    }
+
+    /**
+     * Returns the cache with at least the specified free
+     * space, the bytes before the last mark are discarded
+     */
+    private byte[] ensure(int l) {
+        byte[] it = cache;
+        int m = marker;
+        int s = offset - m;
+
+        if (it.length - s < l) {
+            int c = it.length;
+            c += c >> 1;
+            if (c < s + l) {
+                c = s + l;
+            }
+            byte[] tmp = new byte[c];
+            System.arraycopy(
+                it, m, tmp, 0, s
+            );
+            cache = it = tmp;
+        } else if (m != 0) {
+            System.arraycopy(
+                it, m, it, 0, s
+            );
+        } else {
+            return it;
+        }
+
+        index -= m;
+        offset = s;
+        marker = 0;
+        return it;
+    }
+
+    @Override
+    public byte read() {
+        return cache[index++];
+    }
+
+    @Override
+    public boolean also()
+        throws IOException {
+        if (complete) {
+            return false;
+        }
+        if (index < offset) {
+            return true;
+        }
+        if (eof) {
+            return false;
+        }
+        throw UNDERFLOW;
+    }
+
+    @Override
+    public byte next()
+        throws IOException {
+        if (index < offset) {
+            return cache[index++];
+        }
+        if (eof || complete) {
+            throw new ReaderCrash(
+                "Unexpectedly, no readable byte"
+            );
+        }
+        throw UNDERFLOW;
+    }
+
+    @Override
+    public int read(
+        @NotNull Alpha alpha, byte a, byte b
+    ) throws IOException {
+        if (complete) {
+            return -1;
+        }
+
+        int i = index, o = offset;
+        byte[] it = cache;
+
+        int j = Binary.indexOf(
+            it, i, o, a, b
+        );
+        if (j < o) {
+            alpha.join(
+                it, i, j - i
+            );
+            index = j + 1;
+            return it[j];
+        }
+
+        if (eof || i != o) {
+            alpha.join(
+                it, i, o - i
+            );
+            index = o;
+            return -1;
+        }
+        throw UNDERFLOW;
+    }
+
+    @Override
+    public int skip(
+        @NotNull boolean[] table
+    ) throws IOException {
+        if (complete) {
+            return -1;
+        }
+
+        int i = index, o = offset;
+        byte[] it = cache;
+
+        int j = Binary.indexOf(
+            it, i, o, table
+        );
+        if (j < o) {
+            index = j + 1;
+            return it[j];
+        }
+
+        if (eof || i != o) {
+            index = o;
+            return -1;
+        }
+        throw UNDERFLOW;
+    }
+
+    @Override
+    public void mark() {
+        // no byte consumed since the
+        // last mark, such as resuming
+        if (marker != index) {
+            marker = index;
+            count = 0;
+            cursor = 0;
+        }
+    }
+
+    @Override
+    public boolean attach(
+        @NotNull Space space,
+        @NotNull Alias alias
+    ) throws IOException {
+        if (cursor < count) {
+            return record[cursor++];
+        }
+
+        boolean b = proxy.attach(
+            space, alias
+        );
+        if (b) {
+            depth++;
+        }
+        return record(b);
+    }
+
+    @Override
+    public void submit(
+        @NotNull Space space,
+        @NotNull Alias alias,
+        @NotNull Value value
+    ) throws IOException {
+        if (cursor < count) {
+            cursor++;
+            return;
+        }
+
+        proxy.submit(
+            space, alias, value
+        );
+        if (depth == 0) {
+            complete = true;
+        }
+        record(false);
+    }
+
+    @Override
+    public boolean detach()
+        throws IOException {
+        if (cursor < count) {
+            return record[cursor++];
+        }
+
+        boolean b = proxy.detach();
+        if (--depth == 0) {
+            complete = true;
+        }
+        return record(b);
+    }
+
+    /**
+     * Records the result of a proxy call since the last mark
+     */
+    private boolean record(boolean b) {
+        boolean[] it = record;
+        if (count == it.length) {
+            boolean[] tmp = new boolean[count * 2];
+            System.arraycopy(
+                it, 0, tmp, 0, count
+            );
+            record = it = tmp;
+        }
+        it[count++] = b;
+        cursor = count;
+        return b;
+    }
+
+    /**
+     * Close this {@link Feeder}
+     */
+    @Override
+    public void close() {
+        complete = true;
+        cache = EMPTY_BYTES;
+        index = offset = marker = 0;
+    }
+
+    /**
+     * @author kraity
+     * @since 0.0.5
+     */
+    static final class Underflow extends IOException {
+        Underflow() {
+            super("Unexpectedly, the fed bytes ran out");
+        }
+
+        @Override
+        public Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
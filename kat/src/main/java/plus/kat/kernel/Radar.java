@@ -30,6 +30,14 @@ import static plus.kat.stream.Binary.digit;
  * @since 0.0.1
  */
 public class Radar implements Solver {
+    /**
+     * skip tables
+     */
+    private static final boolean[]
+        BODY = Binary.table('{', '}', '^', '(', ')', '#'),
+        TEXT = Binary.table('^', ')'),
+        NOTE = Binary.table('#', '\r', '\n');
+
     /**
      * snapshot
      */
@@ -37,6 +45,15 @@ public class Radar implements Solver {
     protected final Alias alias;
     protected final Value value;
 
+    /**
+     * resumable state, the depth of the skipped
+     * body, the text or note in it, the value read
+     * and the length of value at the last mark
+     */
+    protected boolean skip;
+    protected byte quote;
+    protected int level, hold;
+
     /**
      * Constructs a radar with the specified bucket
      *
@@ -100,6 +117,27 @@ public class Radar implements Solver {
         Alias a = alias;
         Value v = value;
 
+        if (skip) {
+            // resumed in a skipped body
+            s.reset();
+            a.reset();
+            v.reset();
+            washing(r);
+            r.mark();
+        } else if (quote != 0) {
+            // resumed in a value
+            v.slip(hold);
+            submit(v, r, p);
+            if (!r.also()) {
+                return;
+            }
+        } else {
+            // resumed from a mark
+            s.reset();
+            a.reset();
+            v.reset();
+        }
+
         Radar:
         // decode kat stream
         while (true) {
@@ -116,6 +154,7 @@ public class Radar implements Solver {
                         washing(r);
                     }
                     c = s;
+                    r.mark();
                     continue;
                 }
                 case 0x3A: {
@@ -133,6 +172,7 @@ public class Radar implements Solver {
                     if (c == s &&
                         s.isEmpty()) {
                         if (p.detach()) {
+                            r.mark();
                             continue;
                         } else break Radar;
                     }
@@ -290,29 +330,11 @@ public class Radar implements Solver {
                     );
                 }
                 case 0x28: {
-                    while (true) {
-                        switch (b = r.next()) {
-                            case 0x5E: {
-                                escape(v, r);
-                                continue;
-                            }
-                            case 0x29: {
-                                p.submit(
-                                    s, a, v
-                                );
-                                s.reset();
-                                a.reset();
-                                v.reset();
-                                if (r.also()) {
-                                    c = s;
-                                    continue Radar;
-                                } else return;
-                            }
-                            default: {
-                                v.join(b);
-                            }
-                        }
-                    }
+                    submit(v, r, p);
+                    if (r.also()) {
+                        c = s;
+                        continue;
+                    } else return;
                 }
                 case 0x23: {
                     if (c == s &&
@@ -336,6 +358,48 @@ public class Radar implements Solver {
         }
     }
 
+    /**
+     * Reads the value until the close parenthesis and submits it,
+     * which is resumable at each step from its state
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    protected void submit(
+        @NotNull Value v,
+        @NotNull Reader r,
+        @NotNull Proxy p
+    ) throws IOException {
+        while (true) {
+            quote = 0x29;
+            hold = v.length();
+            r.mark();
+
+            if (!r.also()) {
+                throw new ReaderCrash(
+                    "Unexpectedly, no readable byte"
+                );
+            }
+
+            switch (r.read(v, (byte) 0x5E, (byte) 0x29)) {
+                case 0x5E: {
+                    escape(v, r);
+                    continue;
+                }
+                case 0x29: {
+                    quote = 0;
+                    p.submit(
+                        space, alias, v
+                    );
+                    space.reset();
+                    alias.reset();
+                    v.reset();
+                    r.mark();
+                    return;
+                }
+            }
+        }
+    }
+
     /**
      * Escapes the special character
      *
@@ -503,7 +567,8 @@ public class Radar implements Solver {
     }
 
     /**
-     * Filter out the useless body
+     * Filter out the useless body, which is
+     * resumable at each step from its state
      *
      * <pre>{@code
      *   space:alias{...}
@@ -514,19 +579,49 @@ public class Radar implements Solver {
     protected void washing(
         @NotNull Reader r
     ) throws IOException {
-        Filter:
-        for (int i = 0; ; ) {
-            switch (r.next()) {
+        skip = true;
+        while (true) {
+            r.mark();
+            if (!r.also()) {
+                throw new ReaderCrash(
+                    "Unexpectedly, no readable byte"
+                );
+            }
+
+            switch (quote) {
+                case '(': {
+                    switch (r.skip(TEXT)) {
+                        case '^': {
+                            r.next();
+                            continue;
+                        }
+                        case ')': {
+                            quote = 0;
+                        }
+                    }
+                    continue;
+                }
+                case '#': {
+                    if (r.skip(NOTE) != -1) {
+                        quote = 0;
+                    }
+                    continue;
+                }
+            }
+
+            int b = r.skip(BODY);
+            switch (b) {
                 case '{': {
-                    i++;
+                    level++;
                     continue;
                 }
                 case '}': {
-                    if (i-- == 0) {
-                        return;
-                    } else {
+                    if (level != 0) {
+                        level--;
                         continue;
                     }
+                    skip = false;
+                    return;
                 }
                 case '^': {
                     r.next();
@@ -537,29 +632,9 @@ public class Radar implements Solver {
                         "Close parentheses can't be here"
                     );
                 }
-                case '#': {
-                    while (true) {
-                        switch (r.next()) {
-                            case '#':
-                            case '\r':
-                            case '\n': {
-                                continue Filter;
-                            }
-                        }
-                    }
-                }
+                case '#':
                 case '(': {
-                    while (true) {
-                        switch (r.next()) {
-                            case '^': {
-                                r.next();
-                                continue;
-                            }
-                            case ')': {
-                                continue Filter;
-                            }
-                        }
-                    }
+                    quote = (byte) b;
                 }
             }
         }
@@ -570,6 +645,10 @@ public class Radar implements Solver {
      */
     @Override
     public void clear() {
+        skip = false;
+        quote = 0;
+        level = 0;
+        hold = 0;
         space.reset();
         alias.reset();
         value.clear();
@@ -580,6 +659,10 @@ public class Radar implements Solver {
      */
     @Override
     public void close() {
+        skip = false;
+        quote = 0;
+        level = 0;
+        hold = 0;
         space.close();
         alias.close();
         value.close();
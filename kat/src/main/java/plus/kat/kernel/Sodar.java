@@ -30,6 +30,14 @@ import static plus.kat.kernel.Radar.*;
  * @since 0.0.5
  */
 public class Sodar implements Solver {
+    /**
+     * skip tables
+     */
+    private static final boolean[]
+        BODY = Binary.table('{', '}', '[', ']', '"', '\''),
+        QUOT = Binary.table('"', '\\'),
+        APOS = Binary.table('\'', '\\');
+
     /**
      * snapshot
      */
@@ -37,6 +45,14 @@ public class Sodar implements Solver {
     protected long mask = 1L;
     protected boolean mutable;
 
+    /**
+     * resumable state, the terminator and depth of
+     * the skipped body, the quote of the string read
+     * and the length of value at the last mark
+     */
+    protected byte skip, quote;
+    protected int level, hold;
+
     /**
      * snapshot
      */
@@ -114,48 +130,71 @@ public class Sodar implements Solver {
         Alias a = alias;
         Value v = value;
 
-        Boot:
-        // decode json stream
-        while (true) {
-            byte b = r.next();
-            if (b <= 0x20) {
-                switch (b) {
-                    case 0x09:
-                    case 0x0A:
-                    case 0x0D:
-                    case 0x20: {
-                        continue;
+        if (skip != 0) {
+            // resumed in a skipped body
+            a.reset();
+            v.reset();
+            washing(skip, r);
+        } else if (quote != 0) {
+            // resumed in a string value
+            v.slip(hold);
+            escape(v, quote, r);
+            p.submit(
+                s.as('s'), a, v
+            );
+            a.reset();
+            v.reset();
+        } else {
+            // resumed from a mark
+            a.reset();
+            v.reset();
+
+            if (mask == 1L) {
+                Boot:
+                // decode json stream
+                while (true) {
+                    byte b = r.next();
+                    if (b <= 0x20) {
+                        switch (b) {
+                            case 0x09:
+                            case 0x0A:
+                            case 0x0D:
+                            case 0x20: {
+                                continue;
+                            }
+                        }
+                        throw new SolverCrash(
+                            "Parse error, `" + b + "`  can't be here"
+                        );
                     }
-                }
-                throw new SolverCrash(
-                    "Parse error, `" + b + "`  can't be here"
-                );
-            }
 
-            switch (b) {
-                case '{': {
-                    attach(
-                        s, a, p, r, true
-                    );
-                    break Boot;
-                }
-                case '[': {
-                    attach(
-                        s, a, p, r, false
-                    );
-                    break Boot;
-                }
-                default: {
-                    throw new SolverCrash(
-                        "Parse error, `" + b + "`  can't be here"
-                    );
+                    switch (b) {
+                        case '{': {
+                            attach(
+                                s, a, p, r, true
+                            );
+                            break Boot;
+                        }
+                        case '[': {
+                            attach(
+                                s, a, p, r, false
+                            );
+                            break Boot;
+                        }
+                        default: {
+                            throw new SolverCrash(
+                                "Parse error, `" + b + "`  can't be here"
+                            );
+                        }
+                    }
                 }
             }
         }
 
         Boot:
-        // decode json stream
-        while (r.also()) {
+        // decode json stream,
+        // and mark each resumable point
+        for (r.mark(); r.also(); r.mark()) {
             if (mutable) Alias:
                 while (true) {
                     byte b = r.next();
@@ -248,7 +287,7 @@ public class Sodar implements Solver {
                         );
                         a.reset();
                         v.reset();
-                        continue;
+                        continue Boot;
                     }
                     case '"':
                     case '\'': {
@@ -376,6 +415,7 @@ public class Sodar implements Solver {
         } else {
             if (p.attach(s.as('L'), a)) {
                 mask <<= 1;
+                data &= ~mask;
                 mutable = false;
             } else {
                 washing(
@@ -429,7 +469,8 @@ public class Sodar implements Solver {
     }
 
     /**
-     * Escapes the special character
+     * Escapes the special character, the value
+     * is resumable at each step from its state
      *
      * @throws IOException If an I/O error occurs
      */
@@ -438,18 +479,32 @@ public class Sodar implements Solver {
         byte e,
         Reader r
     ) throws IOException {
+        boolean m = c == value;
         while (true) {
-            byte b = r.next();
-            if (b == e) {
+            if (m) {
+                quote = e;
+                hold = c.length();
+                r.mark();
+            }
+
+            if (!r.also()) {
+                throw new ReaderCrash(
+                    "Unexpectedly, no readable byte"
+                );
+            }
+
+            int i = r.read(
+                c, e, (byte) '\\'
+            );
+            if (i == e) {
                 break;
             }
 
-            if (b != '\\') {
-                c.join(b);
+            if (i != '\\') {
                 continue;
             }
 
-            b = r.next();
+            byte b = r.next();
             switch (b) {
                 case 'b': {
                     b = '\b';
@@ -478,10 +533,12 @@ public class Sodar implements Solver {
             }
             c.join(b);
         }
+        quote = 0;
     }
 
     /**
-     * Filter out the useless body
+     * Filter out the useless body, which is
+     * resumable at each step from its state
      *
      * @throws IOException If an I/O error occurs
      */
@@ -489,36 +546,54 @@ public class Sodar implements Solver {
         byte a,
         Reader r
     ) throws IOException {
+        skip = a;
         while (true) {
-            byte b = r.next();
-            if (a == b) {
-                break;
+            r.mark();
+            if (!r.also()) {
+                throw new ReaderCrash(
+                    "Unexpectedly, no readable byte"
+                );
             }
-            switch (b) {
-                case '{': {
-                    washing(
-                        (byte) '}', r
-                    );
-                    continue;
+
+            byte q = quote;
+            if (q != 0) {
+                switch (r.skip(q == '"' ? QUOT : APOS)) {
+                    case '\\': {
+                        r.next();
+                        continue;
+                    }
+                    case '"':
+                    case '\'': {
+                        quote = 0;
+                    }
                 }
+                continue;
+            }
+
+            int b = r.skip(BODY);
+            switch (b) {
+                case '{':
                 case '[': {
-                    washing(
-                        (byte) ']', r
-                    );
+                    level++;
                     continue;
                 }
-                case '"': {
-                    Drop:
-                    while (true) {
-                        switch (r.next()) {
-                            case '"': {
-                                break Drop;
-                            }
-                            case '\\': {
-                                r.next();
-                            }
-                        }
+                case '}':
+                case ']': {
+                    if (level != 0) {
+                        level--;
+                        continue;
+                    }
+                    if (a == b) {
+                        skip = 0;
+                        return;
                     }
+                    throw new SolverCrash(
+                        "Parse error, mismatched terminator"
+                    );
+                }
+                case '"':
+                case '\'': {
+                    quote = (byte) b;
                 }
             }
         }
@@ -531,6 +606,10 @@ public class Sodar implements Solver {
     public void clear() {
         data = 0L;
         mask = 1L;
+        skip = 0;
+        quote = 0;
+        level = 0;
+        hold = 0;
         space.reset();
         alias.reset();
         value.clear();
@@ -543,6 +622,10 @@ public class Sodar implements Solver {
     public void close() {
         data = 0L;
         mask = 1L;
+        skip = 0;
+        quote = 0;
+        level = 0;
+        hold = 0;
         space.close();
         alias.close();
         value.close();
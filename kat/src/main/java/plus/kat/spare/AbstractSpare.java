@@ -21,17 +21,29 @@ import plus.kat.*;
 import plus.kat.chain.*;
 import plus.kat.crash.*;
 import plus.kat.entity.*;
+import plus.kat.kernel.*;
 import plus.kat.stream.*;
 import plus.kat.utils.*;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.sql.ResultSet;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import static plus.kat.Flag.*;
 
@@ -51,6 +63,7 @@ public abstract class AbstractSpare<T> implements Subject<T> {
 
     protected Bundle<T>[] table;
     protected Medium<T, ?> head, tail;
+    protected Catalog<T> catalog;
 
     protected AbstractSpare(
         @NotNull Class<T> klass,
@@ -312,6 +325,17 @@ public abstract class AbstractSpare<T> implements Subject<T> {
     public Member<T, ?> set(
         @NotNull Object name
     ) {
+        if (name instanceof Chain) {
+            Catalog<T> c = catalog();
+            if (c != null) {
+                Chain ch = (Chain) name;
+                Bundle<T> b = c.find(
+                    Unsafe.value(ch), ch.length()
+                );
+                return b == null ? null : b.setter;
+            }
+        }
+
         Bundle<T>[] tab = table;
         if (tab == null) {
             return null;
@@ -335,10 +359,37 @@ public abstract class AbstractSpare<T> implements Subject<T> {
         return null;
     }
 
+    @Override
+    public Member<T, ?> set(
+        @NotNull Alias alias,
+        int hint
+    ) {
+        Catalog<T> c = catalog();
+        if (c == null) {
+            return set(alias);
+        }
+
+        Bundle<T> b = c.find(
+            Unsafe.value(alias), alias.length(), hint
+        );
+        return b == null ? null : b.setter;
+    }
+
     @Override
     public Member<T, ?> get(
         @NotNull Object key
     ) {
+        if (key instanceof Chain) {
+            Catalog<T> c = catalog();
+            if (c != null) {
+                Chain ch = (Chain) key;
+                Bundle<T> b = c.find(
+                    Unsafe.value(ch), ch.length()
+                );
+                return b == null ? null : b.getter;
+            }
+        }
+
         Bundle<T>[] tab = table;
         if (tab == null) {
             return null;
@@ -366,6 +417,17 @@ public abstract class AbstractSpare<T> implements Subject<T> {
     public Member<Object[], ?> arg(
         @NotNull Object name
     ) {
+        if (name instanceof Chain) {
+            Catalog<T> c = catalog();
+            if (c != null) {
+                Chain ch = (Chain) name;
+                Bundle<T> b = c.find(
+                    Unsafe.value(ch), ch.length()
+                );
+                return b == null ? null : b.target;
+            }
+        }
+
         Bundle<T>[] tab = table;
         if (tab == null) {
             return null;
@@ -389,6 +451,37 @@ public abstract class AbstractSpare<T> implements Subject<T> {
         return null;
     }
 
+    @Override
+    public Member<Object[], ?> arg(
+        @NotNull Alias alias,
+        int hint
+    ) {
+        Catalog<T> c = catalog();
+        if (c == null) {
+            return arg(alias);
+        }
+
+        Bundle<T> b = c.find(
+            Unsafe.value(alias), alias.length(), hint
+        );
+        return b == null ? null : b.target;
+    }
+
+    /**
+     * Returns the {@link Catalog} of property names,
+     * or null if the subclass resolves names by the table only
+     *
+     * @since 0.0.5
+     */
+    @Nullable
+    protected Catalog<T> catalog() {
+        Catalog<T> c = catalog;
+        if (c == null) {
+            catalog = c = new Catalog<>(table, head);
+        }
+        return c;
+    }
+
     /**
      * Returns the {@link Bundle} being used
      *
@@ -417,6 +510,7 @@ public abstract class AbstractSpare<T> implements Subject<T> {
                 if (node.key != null) {
                     node = new Bundle<>();
                 }
+                catalog = null;
                 node.key = key;
                 node.hash = hash;
                 return tab[i] = node;
@@ -437,6 +531,7 @@ public abstract class AbstractSpare<T> implements Subject<T> {
                     if (node.key != null) {
                         node = new Bundle<>();
                     }
+                    catalog = null;
                     node.key = key;
                     node.hash = hash;
                     return b.next = node;
@@ -486,11 +581,14 @@ public abstract class AbstractSpare<T> implements Subject<T> {
     ) {
         if (node.name == null) {
             node.name = name;
+            node.label = new Label(name);
             node.grade = grade;
         } else {
             return false;
         }
 
+        catalog = null;
+
         Medium<T, ?> m = head;
         Medium<T, ?> n = null;
 
@@ -757,6 +855,308 @@ public abstract class AbstractSpare<T> implements Subject<T> {
         private Member<Object[], ?> target;
     }
 
+    /**
+     * An immutable perfect hash over the {@code UTF-8}
+     * names of properties, resolving a member from the raw bytes
+     * of an alias without hashing the chain or creating a string
+     *
+     * <p>
+     * The names are hashed once into small buckets, and each bucket gets a
+     * displacement that moves its names into free slots (hash and displace),
+     * so the table is the next power of two of the names and the build
+     * succeeds however many names there are
+     *
+     * @author kraity
+     * @since 0.0.5
+     */
+    public static class Catalog<K> {
+
+        private final int seed;
+        private final int mask;
+        private final boolean wide;
+
+        private final int[] shift;
+        private final byte[][] names;
+        private final Bundle<K>[] bundles;
+
+        private final byte[][] series;
+        private final Bundle<K>[] orders;
+
+        /**
+         * Builds the perfect hash for the names in the table
+         *
+         * @param table the specified table of properties
+         * @param head  the specified first member of the writing order
+         */
+        public Catalog(
+            @Nullable Bundle<K>[] table,
+            @Nullable Medium<K, ?> head
+        ) {
+            int size = 0;
+            Bundle<K>[] list = new Bundle[8];
+            byte[][] keys = new byte[8][];
+
+            if (table != null) {
+                Set<ByteBuffer> seen = new HashSet<>();
+                for (Bundle<K> b : table) {
+                    for (; b != null; b = b.next) {
+                        if (b.key instanceof String) {
+                            byte[] k = ((String) b.key)
+                                .getBytes(StandardCharsets.UTF_8);
+                            // unpaired surrogates may encode alike
+                            if (!seen.add(ByteBuffer.wrap(k))) {
+                                continue;
+                            }
+                            if (size == list.length) {
+                                list = Arrays.copyOf(list, size * 2);
+                                keys = Arrays.copyOf(keys, size * 2);
+                            }
+                            list[size] = b;
+                            keys[size++] = k;
+                        }
+                    }
+                }
+            }
+
+            int cap = 1;
+            while (cap < size) {
+                cap <<= 1;
+            }
+
+            // about two names per bucket
+            int div = 1;
+            while (div * 2 < size) {
+                div <<= 1;
+            }
+
+            // sample a few bytes if that tells the names apart
+            boolean all = false;
+            Set<Long> sample = new HashSet<>();
+            for (int i = 0; i < size; i++) {
+                byte[] k = keys[i];
+                int l = k.length;
+                long s = (long) l << 24;
+                if (l != 0) {
+                    s |= (k[0] & 0xFFL) << 16 |
+                        (k[l >> 1] & 0xFFL) << 8 | (k[l - 1] & 0xFFL);
+                }
+                if (!sample.add(s)) {
+                    all = true;
+                    break;
+                }
+            }
+
+            int seed = 0;
+            int[] disp = new int[div];
+            byte[][] slot = new byte[cap][];
+            Bundle<K>[] group = new Bundle[cap];
+
+            // a new seed only for names whose whole hashes meet
+            while (!place(
+                keys, list, size, seed, all, disp, slot, group
+            )) {
+                seed += 0x9E3779B9;
+                Arrays.fill(disp, 0);
+                Arrays.fill(slot, null);
+                Arrays.fill(group, null);
+            }
+
+            this.seed = seed;
+            this.mask = cap - 1;
+            this.wide = all;
+            this.shift = disp;
+            this.names = slot;
+            this.bundles = group;
+
+            // the names in writing order
+            int n = 0;
+            for (Medium<K, ?> m = head; m != null; m = m.near) {
+                n++;
+            }
+            byte[][] se = new byte[n][];
+            Bundle<K>[] or = new Bundle[n];
+            n = 0;
+            for (Medium<K, ?> m = head; m != null; m = m.near) {
+                byte[] k = m.name.getBytes(
+                    StandardCharsets.UTF_8
+                );
+                se[n] = k;
+                or[n++] = find(k, k.length);
+            }
+            this.series = se;
+            this.orders = or;
+        }
+
+        /**
+         * Places the names bucket by bucket, the largest first,
+         * returns false if a bucket finds no displacement
+         */
+        private static <K> boolean place(
+            byte[][] keys,
+            Bundle<K>[] list,
+            int size,
+            int seed,
+            boolean all,
+            int[] disp,
+            byte[][] slot,
+            Bundle<K>[] group
+        ) {
+            int flag = disp.length - 1;
+            int mask = slot.length - 1;
+
+            int[] hash = new int[size];
+            int[] next = new int[size];
+            int[] first = new int[disp.length];
+            int[] count = new int[disp.length];
+            Arrays.fill(first, -1);
+
+            int most = 0;
+            for (int i = 0; i < size; i++) {
+                byte[] k = keys[i];
+                int h = hash[i] = hash(
+                    k, k.length, seed, all
+                );
+                int g = h & flag;
+                next[i] = first[g];
+                first[g] = i;
+                if (most < ++count[g]) {
+                    most = count[g];
+                }
+            }
+
+            int[] used = new int[most];
+            int limit = slot.length << 4;
+            for (int c = most; c > 0; c--) {
+                for (int g = 0; g <= flag; g++) {
+                    if (count[g] != c) {
+                        continue;
+                    }
+                    search:
+                    for (int d = 0; ; d++) {
+                        if (d == limit) {
+                            return false;
+                        }
+                        int n = 0;
+                        for (int i = first[g]; i != -1; i = next[i]) {
+                            int s = mix(
+                                hash[i] + d * 0x9E3779B9
+                            ) & mask;
+                            if (slot[s] != null) {
+                                continue search;
+                            }
+                            for (int j = 0; j < n; j++) {
+                                if (used[j] == s) {
+                                    continue search;
+                                }
+                            }
+                            used[n++] = s;
+                        }
+                        n = 0;
+                        for (int i = first[g]; i != -1; i = next[i]) {
+                            int s = used[n++];
+                            slot[s] = keys[i];
+                            group[s] = list[i];
+                        }
+                        disp[g] = d;
+                        break;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the hash of the first {@code l} bytes
+         */
+        private static int hash(
+            byte[] b, int l, int seed, boolean wide
+        ) {
+            int h = seed ^ l;
+            if (wide) {
+                for (int i = 0; i < l; i++) {
+                    h = (h ^ b[i]) * 0x01000193;
+                }
+            } else if (l != 0) {
+                h = (h ^ b[0]) * 0x01000193;
+                h = (h ^ b[l >> 1]) * 0x01000193;
+                h = (h ^ b[l - 1]) * 0x01000193;
+            }
+            return h ^ (h >>> 16);
+        }
+
+        /**
+         * Returns the finalized mix of the specified hash
+         */
+        private static int mix(
+            int h
+        ) {
+            h = (h ^ (h >>> 16)) * 0x85EBCA6B;
+            h = (h ^ (h >>> 13)) * 0xC2B2AE35;
+            return h ^ (h >>> 16);
+        }
+
+        /**
+         * Returns the {@link Bundle} of the specified name or null
+         *
+         * @param b the specified bytes of name
+         * @param l the specified length of name
+         */
+        @Nullable
+        public Bundle<K> find(
+            @NotNull byte[] b, int l
+        ) {
+            int[] sh = shift;
+            int h = hash(
+                b, l, seed, wide
+            );
+            int i = mix(
+                h + sh[h & (sh.length - 1)] * 0x9E3779B9
+            ) & mask;
+            byte[] k = names[i];
+            if (k == null ||
+                k.length != l) {
+                return null;
+            }
+            for (int j = 0; j < l; j++) {
+                if (k[j] != b[j]) {
+                    return null;
+                }
+            }
+            return bundles[i];
+        }
+
+        /**
+         * Returns the {@link Bundle} of the specified name or null,
+         * the name at the {@code hint} position of the writing order is compared first
+         *
+         * @param b    the specified bytes of name
+         * @param l    the specified length of name
+         * @param hint the specified position of name
+         */
+        @Nullable
+        public Bundle<K> find(
+            @NotNull byte[] b, int l, int hint
+        ) {
+            byte[][] se = series;
+            if (hint < se.length) {
+                byte[] k = se[hint];
+                if (k.length == l) {
+                    int j = 0;
+                    while (j < l && k[j] == b[j]) {
+                        j++;
+                    }
+                    if (j == l) {
+                        Bundle<K> o = orders[hint];
+                        if (o != null) {
+                            return o;
+                        }
+                    }
+                }
+            }
+            return find(b, l);
+        }
+    }
+
     /**
      * @author kraity
      * @since 0.0.4
@@ -766,6 +1166,7 @@ public abstract class AbstractSpare<T> implements Subject<T> {
 
         private int grade;
         private String name;
+        private Label label;
         private Medium<K, ?> near;
 
         protected Type scope;
@@ -892,6 +1293,156 @@ public abstract class AbstractSpare<T> implements Subject<T> {
             return clazz;
         }
 
+        /**
+         * Parses the {@link Value} by the specified {@link Coder}
+         * and sets the result to the bean, the values of primitive
+         * coders are passed to the primitive setters without boxing
+         *
+         * @throws IOException If an I/O error occurs
+         * @since 0.0.5
+         */
+        @Override
+        public boolean decode(
+            @NotNull K bean,
+            @NotNull Coder<?> coder,
+            @NotNull Flag flag,
+            @NotNull Value value
+        ) throws IOException {
+            if (coder == IntegerSpare.INSTANCE) {
+                return setInt(
+                    bean, value.toInt()
+                );
+            }
+            if (coder == LongSpare.INSTANCE) {
+                return setLong(
+                    bean, value.toLong()
+                );
+            }
+            if (coder == DoubleSpare.INSTANCE) {
+                return setDouble(
+                    bean, value.toDouble()
+                );
+            }
+            if (coder == BooleanSpare.INSTANCE) {
+                return setBoolean(
+                    bean, value.toBoolean()
+                );
+            }
+            if (coder == FloatSpare.INSTANCE) {
+                return setFloat(
+                    bean, value.toFloat()
+                );
+            }
+            if (coder == ShortSpare.INSTANCE) {
+                return setShort(
+                    bean, (short) value.toInt()
+                );
+            }
+            if (coder == ByteSpare.INSTANCE) {
+                return setByte(
+                    bean, ByteSpare.INSTANCE.read(flag, value)
+                );
+            }
+            if (coder == CharSpare.INSTANCE) {
+                return setChar(
+                    bean, CharSpare.INSTANCE.read(flag, value)
+                );
+            }
+            return invoke(
+                bean, coder.read(
+                    flag, value
+                )
+            );
+        }
+
+        /**
+         * Sets the specified int value to the bean
+         *
+         * @since 0.0.5
+         */
+        public boolean setInt(
+            @NotNull K bean, int value
+        ) {
+            return invoke(bean, value);
+        }
+
+        /**
+         * Sets the specified long value to the bean
+         *
+         * @since 0.0.5
+         */
+        public boolean setLong(
+            @NotNull K bean, long value
+        ) {
+            return invoke(bean, value);
+        }
+
+        /**
+         * Sets the specified float value to the bean
+         *
+         * @since 0.0.5
+         */
+        public boolean setFloat(
+            @NotNull K bean, float value
+        ) {
+            return invoke(bean, value);
+        }
+
+        /**
+         * Sets the specified double value to the bean
+         *
+         * @since 0.0.5
+         */
+        public boolean setDouble(
+            @NotNull K bean, double value
+        ) {
+            return invoke(bean, value);
+        }
+
+        /**
+         * Sets the specified boolean value to the bean
+         *
+         * @since 0.0.5
+         */
+        public boolean setBoolean(
+            @NotNull K bean, boolean value
+        ) {
+            return invoke(bean, value);
+        }
+
+        /**
+         * Sets the specified short value to the bean
+         *
+         * @since 0.0.5
+         */
+        public boolean setShort(
+            @NotNull K bean, short value
+        ) {
+            return invoke(bean, value);
+        }
+
+        /**
+         * Sets the specified byte value to the bean
+         *
+         * @since 0.0.5
+         */
+        public boolean setByte(
+            @NotNull K bean, byte value
+        ) {
+            return invoke(bean, value);
+        }
+
+        /**
+         * Sets the specified char value to the bean
+         *
+         * @since 0.0.5
+         */
+        public boolean setChar(
+            @NotNull K bean, char value
+        ) {
+            return invoke(bean, value);
+        }
+
         /**
          * Returns {@code true} if processed
          */
@@ -908,9 +1459,16 @@ public abstract class AbstractSpare<T> implements Subject<T> {
                 }
             } else {
                 if ((flags & Unwrapped) == 0) {
-                    chan.set(
-                        name, coder, value
-                    );
+                    Label l = label;
+                    if (l != null) {
+                        chan.put(
+                            l, coder, value
+                        );
+                    } else {
+                        chan.set(
+                            name, coder, value
+                        );
+                    }
                 } else {
                     Coder<?> it = coder;
                     if (it != null) {
@@ -1009,6 +1567,15 @@ public abstract class AbstractSpare<T> implements Subject<T> {
     protected static final MethodHandles.Lookup
         LOOKUP = MethodHandles.lookup();
 
+    /**
+     * Spins a {@link LambdaMetafactory} class for method
+     * accessors instead of invoking their {@link MethodHandle}, opt-in
+     *
+     * @since 0.0.5
+     */
+    protected static final boolean
+        LAMBDA = Config.get("kat.spare.lambda", false);
+
     /**
      * @author kraity
      * @since 0.0.4
@@ -1018,6 +1585,35 @@ public abstract class AbstractSpare<T> implements Subject<T> {
         protected MethodHandle getter;
         protected MethodHandle setter;
 
+        /**
+         * The setter of primitive type, without boxing, widened
+         * to {@code long}, {@code double} or kept as {@code boolean}
+         *
+         * @since 0.0.5
+         */
+        protected MethodHandle direct;
+
+        /**
+         * The descriptor of the primitive type of {@link #direct}, such as {@code 'I'}
+         *
+         * @since 0.0.5
+         */
+        protected char prime;
+
+        /**
+         * Spun by {@link LambdaMetafactory} if {@link #LAMBDA} is enabled
+         *
+         * @since 0.0.5
+         */
+        protected Function<Object, Object> applier;
+        protected BiConsumer<Object, Object> acceptor;
+
+        private static final MethodType
+            GETTER = MethodType.methodType(Object.class, Object.class),
+            SETTER = MethodType.methodType(void.class, Object.class, Object.class),
+            LONG = MethodType.methodType(void.class, Object.class, long.class),
+            DOUBLE = MethodType.methodType(void.class, Object.class, double.class);
+
         public Accessor(
             Expose expose,
             Field field,
@@ -1043,11 +1639,12 @@ public abstract class AbstractSpare<T> implements Subject<T> {
                 field.setAccessible(true);
             }
             if (status == null) {
-                getter = LOOKUP.unreflectGetter(field);
+                getter = LOOKUP.unreflectGetter(field).asType(GETTER);
             } else {
                 setter = LOOKUP.unreflectSetter(field);
+                direct(field.getType());
                 if (!status) {
-                    getter = LOOKUP.unreflectGetter(field);
+                    getter = LOOKUP.unreflectGetter(field).asType(GETTER);
                 }
             }
         }
@@ -1067,8 +1664,119 @@ public abstract class AbstractSpare<T> implements Subject<T> {
             }
             if (method.getParameterCount() != 0) {
                 setter = LOOKUP.unreflect(method);
+                direct(method.getParameterTypes()[0]);
             } else {
-                getter = LOOKUP.unreflect(method);
+                getter = LOOKUP.unreflect(method).asType(GETTER);
+            }
+
+            if (LAMBDA) {
+                try {
+                    spin(method);
+                } catch (LinkageError |
+                         IllegalAccessException |
+                         LambdaConversionException e) {
+                    // Left to the method handles, such as
+                    // a hidden owner the lookup can't see
+                }
+            }
+        }
+
+        /**
+         * Adapts the raw setter to the erased and primitive types,
+         * the integral types share a {@code long} handle and the
+         * floating types share a {@code double} handle
+         */
+        private void direct(
+            @NotNull Class<?> type
+        ) {
+            MethodHandle handle = setter;
+            setter = handle.asType(SETTER);
+            if (type.isPrimitive()) {
+                handle = handle.asType(
+                    MethodType.methodType(void.class, Object.class, type)
+                );
+                if (type == boolean.class) {
+                    prime = 'Z';
+                    direct = handle;
+                } else if (type == double.class ||
+                    type == float.class) {
+                    prime = type == double.class ? 'D' : 'F';
+                    direct = MethodHandles.explicitCastArguments(
+                        handle, DOUBLE
+                    );
+                } else {
+                    if (type == int.class) {
+                        prime = 'I';
+                    } else if (type == long.class) {
+                        prime = 'J';
+                    } else if (type == short.class) {
+                        prime = 'S';
+                    } else if (type == byte.class) {
+                        prime = 'B';
+                    } else {
+                        prime = 'C';
+                    }
+                    direct = MethodHandles.explicitCastArguments(
+                        handle, LONG
+                    );
+                }
+            }
+        }
+
+        /**
+         * Spins the functional accessor of the specified method
+         */
+        @SuppressWarnings("unchecked")
+        private void spin(
+            @NotNull Method method
+        ) throws IllegalAccessException, LambdaConversionException {
+            Class<?> owner = method.getDeclaringClass();
+            MethodHandles.Lookup lookup = lookup(owner);
+            if (lookup == null) {
+                if (!Modifier.isPublic(owner.getModifiers()) ||
+                    !Modifier.isPublic(method.getModifiers())) {
+                    return;
+                }
+                lookup = LOOKUP;
+            }
+
+            MethodHandle handle = lookup.unreflect(method);
+            if (method.getParameterCount() == 0) {
+                Class<?> type = method.getReturnType();
+                if (type == void.class) {
+                    return;
+                }
+                applier = (Function<Object, Object>) make(
+                    LambdaMetafactory.metafactory(
+                        lookup, "apply", MethodType.methodType(Function.class), GETTER, handle,
+                        MethodType.methodType(MethodType.methodType(type).wrap().returnType(), owner)
+                    )
+                );
+            } else {
+                Class<?> type = method.getParameterTypes()[0];
+                acceptor = (BiConsumer<Object, Object>) make(
+                    LambdaMetafactory.metafactory(
+                        lookup, "accept", MethodType.methodType(BiConsumer.class), SETTER, handle,
+                        MethodType.methodType(void.class, owner, MethodType.methodType(type).wrap().returnType())
+                    )
+                );
+            }
+        }
+
+        /**
+         * Returns the instance of the spun non-capturing lambda
+         */
+        private static Object make(
+            @NotNull CallSite site
+        ) {
+            try {
+                return site.getTarget().invoke();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new FatalCrash(
+                    "Failed to spin the accessor", e
+                );
             }
         }
 
@@ -1076,6 +1784,17 @@ public abstract class AbstractSpare<T> implements Subject<T> {
         public Object apply(
             @NotNull K bean
         ) {
+            Function<Object, Object> fn = applier;
+            if (fn != null) {
+                try {
+                    return fn.apply(bean);
+                } catch (Throwable e) {
+                    throw new FatalCrash(
+                        "Accessor call 'apply' failed", e
+                    );
+                }
+            }
+
             MethodHandle method = getter;
             if (method == null) {
                 throw new FatalCrash(
@@ -1083,7 +1802,9 @@ public abstract class AbstractSpare<T> implements Subject<T> {
                 );
             } else {
                 try {
-                    return method.invoke(bean);
+                    return (Object) method.invokeExact(
+                        (Object) bean
+                    );
                 } catch (Throwable e) {
                     throw new FatalCrash(
                         "Accessor call 'invoke' failed", e
@@ -1097,6 +1818,21 @@ public abstract class AbstractSpare<T> implements Subject<T> {
             @NotNull K bean,
             @Nullable Object value
         ) {
+            BiConsumer<Object, Object> fn = acceptor;
+            if (fn != null) {
+                if (value != null || (flags & NotNull) == 0) {
+                    try {
+                        fn.accept(bean, value);
+                        return true;
+                    } catch (Throwable e) {
+                        throw new FatalCrash(
+                            "Edge call 'accept' failed", e
+                        );
+                    }
+                }
+                return false;
+            }
+
             MethodHandle method = setter;
             if (method == null) {
                 throw new FatalCrash(
@@ -1105,8 +1841,8 @@ public abstract class AbstractSpare<T> implements Subject<T> {
             }
             if (value != null || (flags & NotNull) == 0) {
                 try {
-                    method.invoke(
-                        bean, value
+                    method.invokeExact(
+                        (Object) bean, value
                     );
                     return true;
                 } catch (Throwable e) {
@@ -1117,6 +1853,138 @@ public abstract class AbstractSpare<T> implements Subject<T> {
             }
             return false;
         }
+
+        @Override
+        public boolean setInt(
+            @NotNull K bean, int value
+        ) {
+            return prime == 'I' ? put(bean, (long) value) : invoke(bean, value);
+        }
+
+        @Override
+        public boolean setLong(
+            @NotNull K bean, long value
+        ) {
+            return prime == 'J' ? put(bean, value) : invoke(bean, value);
+        }
+
+        @Override
+        public boolean setFloat(
+            @NotNull K bean, float value
+        ) {
+            return prime == 'F' ? put(bean, (double) value) : invoke(bean, value);
+        }
+
+        @Override
+        public boolean setDouble(
+            @NotNull K bean, double value
+        ) {
+            return prime == 'D' ? put(bean, value) : invoke(bean, value);
+        }
+
+        @Override
+        public boolean setBoolean(
+            @NotNull K bean, boolean value
+        ) {
+            return prime == 'Z' ? put(bean, value) : invoke(bean, value);
+        }
+
+        @Override
+        public boolean setShort(
+            @NotNull K bean, short value
+        ) {
+            return prime == 'S' ? put(bean, (long) value) : invoke(bean, value);
+        }
+
+        @Override
+        public boolean setByte(
+            @NotNull K bean, byte value
+        ) {
+            return prime == 'B' ? put(bean, (long) value) : invoke(bean, value);
+        }
+
+        @Override
+        public boolean setChar(
+            @NotNull K bean, char value
+        ) {
+            return prime == 'C' ? put(bean, (long) value) : invoke(bean, value);
+        }
+
+        /**
+         * Sets the integral value through the widened {@link #direct}
+         */
+        private boolean put(
+            @NotNull K bean, long value
+        ) {
+            try {
+                direct.invokeExact(
+                    (Object) bean, value
+                );
+                return true;
+            } catch (Throwable e) {
+                throw new FatalCrash(
+                    "Edge call 'invoke' failed", e
+                );
+            }
+        }
+
+        /**
+         * Sets the floating value through the widened {@link #direct}
+         */
+        private boolean put(
+            @NotNull K bean, double value
+        ) {
+            try {
+                direct.invokeExact(
+                    (Object) bean, value
+                );
+                return true;
+            } catch (Throwable e) {
+                throw new FatalCrash(
+                    "Edge call 'invoke' failed", e
+                );
+            }
+        }
+
+        /**
+         * Sets the boolean value through {@link #direct}
+         */
+        private boolean put(
+            @NotNull K bean, boolean value
+        ) {
+            try {
+                direct.invokeExact(
+                    (Object) bean, value
+                );
+                return true;
+            } catch (Throwable e) {
+                throw new FatalCrash(
+                    "Edge call 'invoke' failed", e
+                );
+            }
+        }
+    }
+
+    /**
+     * Returns a lookup with private access to the specified class,
+     * or null if not supported, such as in Java 8
+     *
+     * @since 0.0.5
+     */
+    @Nullable
+    private static MethodHandles.Lookup lookup(
+        @NotNull Class<?> clazz
+    ) {
+        try {
+            Method method = MethodHandles.class.getMethod(
+                "privateLookupIn", Class.class, MethodHandles.Lookup.class
+            );
+            return (MethodHandles.Lookup) method.invoke(
+                null, clazz, LOOKUP
+            );
+        } catch (Throwable e) {
+            return null;
+        }
     }
 
     /**
@@ -30,6 +30,7 @@ import java.lang.reflect.*;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 
@@ -127,51 +128,23 @@ public class ArraySpare extends Property<Object> {
             return apply();
         }
 
-        Class<?> e = elem;
-        if (e == Object.class) {
-            Object[] data = new Object[]{
-                spoiler.getValue()
-            };
-            while (spoiler.hasNext()) {
-                Object[] copy = new Object[data.length + 1];
-                System.arraycopy(
-                    data, 0, copy, 0, data.length
+        int size = 0;
+        Object[] data = new Object[8];
+
+        do {
+            if (size == data.length) {
+                data = Arrays.copyOf(
+                    data, size + (size >> 1)
                 );
-                copy[data.length] = spoiler.getValue();
-                data = copy;
             }
-            return data;
-        } else {
-            int size = 0;
-            Object data = null;
-            Spare<?> spare = null;
-
-            do {
-                Object copy;
-                if (size == 0) {
-                    copy = Array.newInstance(e, 1);
-                } else {
-                    copy = Array.newInstance(e, size + 1);
-                    //noinspection SuspiciousSystemArraycopy
-                    System.arraycopy(
-                        data, 0, copy, 0, size
-                    );
-                }
-
-                Object val = spoiler.getValue();
-                if (!e.isInstance(val)) {
-                    if (spare == null) {
-                        spare = supplier.lookup(e);
-                    }
-                    val = spare.cast(val, supplier);
-                }
-                Array.set(copy, size++, val);
-                data = copy;
-            } while (
-                spoiler.hasNext()
-            );
-            return data;
-        }
+            data[size++] = spoiler.getValue();
+        } while (
+            spoiler.hasNext()
+        );
+
+        return pack(
+            data, size, supplier
+        );
     }
 
     @Override
@@ -187,31 +160,14 @@ public class ArraySpare extends Property<Object> {
             return apply();
         }
 
-        Class<?> e = elem;
-        if (e == Object.class) {
-            Object[] data = new Object[count];
-            for (int i = 0; i < count; ) {
-                data[i++] = resultSet.getObject(i);
-            }
-            return data;
-        } else {
-            Spare<?> spare = null;
-            Object data = Array.newInstance(e, count);
-
-            for (int i = 0; i < count; ) {
-                int k = i++;
-                Object val = resultSet.getObject(i);
-                if (!e.isInstance(val)) {
-                    if (spare == null) {
-                        spare = supplier.lookup(e);
-                    }
-                    val = spare.cast(val, supplier);
-                }
-                Array.set(data, k, val);
-            }
-
-            return data;
+        Object[] data = new Object[count];
+        for (int i = 0; i < count; ) {
+            data[i++] = resultSet.getObject(i);
         }
+
+        return pack(
+            data, count, supplier
+        );
     }
 
     @Override
@@ -233,90 +189,43 @@ public class ArraySpare extends Property<Object> {
                 return apply();
             }
 
-            Class<?> e = elem;
-            if (e == Object.class) {
-                Object[] array = new Object[size];
-                //noinspection SuspiciousSystemArraycopy
-                System.arraycopy(
-                    data, 0, array, 0, size
-                );
-                return array;
-            }
-
-            Spare<?> spare = null;
-            Object array = Array.newInstance(e, size);
-
-            for (int i = 0; i < size; i++) {
-                Object val = Array.get(data, i);
-                if (!e.isInstance(val)) {
-                    if (spare == null) {
-                        spare = supplier.lookup(e);
-                    }
-                    val = spare.cast(val, supplier);
+            Object[] array;
+            if (data instanceof Object[]) {
+                array = ((Object[]) data).clone();
+            } else {
+                array = new Object[size];
+                for (int i = 0; i < size; i++) {
+                    array[i] = Array.get(data, i);
                 }
-                Array.set(array, i, val);
             }
 
-            return array;
+            return pack(
+                array, size, supplier
+            );
         }
 
         if (data instanceof Collection) {
             Collection col = (Collection) data;
-            int size = col.size();
-            if (size == 0) {
+            if (col.isEmpty()) {
                 return apply();
             }
 
-            Class<?> e = elem;
-            if (e == Object.class) {
-                return col.toArray();
-            }
-
-            int i = 0;
-            Spare<?> spare = null;
-
-            Object array = Array.newInstance(e, size);
-            for (Object val : col) {
-                if (!e.isInstance(val)) {
-                    if (spare == null) {
-                        spare = supplier.lookup(e);
-                    }
-                    val = spare.cast(val, supplier);
-                }
-                Array.set(array, i++, val);
-            }
-
-            return array;
+            Object[] array = col.toArray();
+            return pack(
+                array, array.length, supplier
+            );
         }
 
         if (data instanceof Map) {
             Map map = (Map) data;
-
-            int size = map.size();
-            if (size == 0) {
+            if (map.isEmpty()) {
                 return apply();
             }
 
-            Class<?> e = elem;
-            if (e == Object.class) {
-                return map.values().toArray();
-            }
-
-            int i = 0;
-            Spare<?> spare = null;
-
-            Object array = Array.newInstance(e, size);
-            for (Object val : map.values()) {
-                if (!e.isInstance(val)) {
-                    if (spare == null) {
-                        spare = supplier.lookup(e);
-                    }
-                    val = spare.cast(val, supplier);
-                }
-                Array.set(array, i++, val);
-            }
-
-            return array;
+            Object[] array = map.values().toArray();
+            return pack(
+                array, array.length, supplier
+            );
         }
 
         if (data instanceof CharSequence) {
@@ -327,7 +236,7 @@ public class ArraySpare extends Property<Object> {
 
         if (data instanceof Spoiler) {
             return apply(
-                (Spoiler) supplier, supplier
+                (Spoiler) data, supplier
             );
         }
 
@@ -350,6 +259,100 @@ public class ArraySpare extends Property<Object> {
         return apply(spoiler, supplier);
     }
 
+    /**
+     * Converts the first {@code size} elements of the
+     * buffer to the component type and returns the typed array
+     *
+     * @param data the specified buffer, it may be modified
+     * @param size the specified number of elements
+     */
+    protected Object pack(
+        @NotNull Object[] data,
+        int size,
+        @NotNull Supplier supplier
+    ) {
+        Class<?> e = elem;
+        if (e == Object.class) {
+            if (size == data.length) {
+                return data;
+            }
+            return Arrays.copyOf(data, size);
+        }
+
+        Spare<?> spare = null;
+        for (int i = 0; i < size; i++) {
+            Object val = data[i];
+            if (!e.isInstance(val)) {
+                if (spare == null) {
+                    spare = supplier.lookup(e);
+                }
+                data[i] = spare.cast(val, supplier);
+            }
+        }
+
+        if (!e.isPrimitive()) {
+            Object array = Array.newInstance(e, size);
+            //noinspection SuspiciousSystemArraycopy
+            System.arraycopy(
+                data, 0, array, 0, size
+            );
+            return array;
+        }
+
+        if (e == int.class) {
+            int[] array = new int[size];
+            for (int i = 0; i < size; i++) {
+                Object val = data[i];
+                if (val != null) {
+                    array[i] = (int) val;
+                }
+            }
+            return array;
+        }
+
+        if (e == long.class) {
+            long[] array = new long[size];
+            for (int i = 0; i < size; i++) {
+                Object val = data[i];
+                if (val != null) {
+                    array[i] = (long) val;
+                }
+            }
+            return array;
+        }
+
+        if (e == double.class) {
+            double[] array = new double[size];
+            for (int i = 0; i < size; i++) {
+                Object val = data[i];
+                if (val != null) {
+                    array[i] = (double) val;
+                }
+            }
+            return array;
+        }
+
+        if (e == byte.class) {
+            byte[] array = new byte[size];
+            for (int i = 0; i < size; i++) {
+                Object val = data[i];
+                if (val != null) {
+                    array[i] = (byte) val;
+                }
+            }
+            return array;
+        }
+
+        Object array = Array.newInstance(e, size);
+        for (int i = 0; i < size; i++) {
+            Object val = data[i];
+            if (val != null) {
+                Array.set(array, i, val);
+            }
+        }
+        return array;
+    }
+
     @Override
     public Builder<Object> getBuilder(
         @Nullable Type type
@@ -395,6 +398,133 @@ public class ArraySpare extends Property<Object> {
         return null;
     }
 
+    /**
+     * A {@link Coder} that writes the element at {@link #index}
+     * of the array passed to it, so primitive arrays are emitted without boxing
+     *
+     * @author kraity
+     * @since 0.0.5
+     */
+    public abstract static class Cursor implements Coder<Object> {
+
+        protected int index;
+        protected final Coder<?> coder;
+
+        public Cursor(
+            @NotNull Coder<?> coder
+        ) {
+            this.coder = coder;
+        }
+
+        @Override
+        public String getSpace() {
+            return coder.getSpace();
+        }
+
+        @Override
+        public Boolean getFlag() {
+            return coder.getFlag();
+        }
+
+        @Override
+        public Boolean getBorder(
+            @NotNull Flag flag
+        ) {
+            return coder.getBorder(flag);
+        }
+
+        /**
+         * Writes each element of the specified array to the chan
+         *
+         * @param size the length of the array
+         * @throws IOException If an I/O error occurs
+         */
+        public void write(
+            @NotNull Chan chan,
+            @NotNull Object array,
+            int size
+        ) throws IOException {
+            for (int i = 0; i < size; i++) {
+                index = i;
+                chan.set(
+                    null, this, array
+                );
+            }
+        }
+    }
+
+    /**
+     * The base of the arrays of a primitive type, such as {@code int[]},
+     * the elements are read and written without boxing, so a subclass only
+     * stores an element into the array and emits an element of the array
+     *
+     * @author kraity
+     * @since 0.0.5
+     */
+    public abstract static class Primitive extends ArraySpare {
+
+        protected final Coder<?> coder;
+
+        protected Primitive(
+            @NotNull Class<?> clazz,
+            @NotNull Coder<?> coder
+        ) {
+            super(clazz);
+            this.coder = coder;
+        }
+
+        /**
+         * Stores the specified value at the index of the array
+         *
+         * @param array the specified array, whose length is greater than the index
+         * @throws IOException If an I/O error occurs
+         */
+        protected abstract void store(
+            @NotNull Object array, int index, @NotNull Value value
+        ) throws IOException;
+
+        /**
+         * Emits the element at the index of the array
+         *
+         * @param array the specified array of this type
+         * @throws IOException If an I/O error occurs
+         */
+        protected abstract void emit(
+            @NotNull Flow flow, @NotNull Object array, int index
+        ) throws IOException;
+
+        @Override
+        public void write(
+            @NotNull Chan chan,
+            @NotNull Object value
+        ) throws IOException {
+            new Cursor(coder) {
+                @Override
+                public void write(
+                    @NotNull Flow flow,
+                    @NotNull Object value
+                ) throws IOException {
+                    emit(
+                        flow, value, index
+                    );
+                }
+            }.write(
+                chan, value, Array.getLength(value)
+            );
+        }
+
+        @Override
+        public Builder<Object> getBuilder(
+            @Nullable Type type
+        ) {
+            if (type == null ||
+                type == klass) {
+                return new Builder3(this);
+            }
+            return super.getBuilder(type);
+        }
+    }
+
     public static class Builder0 extends Builder<Object> {
 
         protected int size;
@@ -671,4 +801,78 @@ public class ArraySpare extends Property<Object> {
             bundle = null;
         }
     }
+
+    /**
+     * Collects the elements of a {@link Primitive} array, growing
+     * by half and trimmed to the size when packed
+     *
+     * @author kraity
+     * @since 0.0.5
+     */
+    public static class Builder3 extends Builder<Object> {
+
+        protected int size;
+        protected int length;
+        protected Object bundle;
+        protected final Primitive spare;
+
+        public Builder3(
+            @NotNull Primitive spare
+        ) {
+            this.spare = spare;
+        }
+
+        @Override
+        public void onCreate() {
+            size = 0;
+            bundle = Array.newInstance(
+                spare.elem, length = 8
+            );
+        }
+
+        @Override
+        public void onAttain(
+            @NotNull Space space,
+            @NotNull Alias alias,
+            @NotNull Value value
+        ) throws IOException {
+            if (size == length) {
+                resize(
+                    size + (size >> 1)
+                );
+            }
+            spare.store(
+                bundle, size++, value
+            );
+        }
+
+        @Nullable
+        @Override
+        public Object onPacket() {
+            if (length != size) {
+                resize(size);
+            }
+            return bundle;
+        }
+
+        @Override
+        public void onDestroy() {
+            bundle = null;
+        }
+
+        /**
+         * Copies the elements into a new array of the specified length
+         */
+        private void resize(
+            int n
+        ) {
+            Object it = Array.newInstance(
+                spare.elem, length = n
+            );
+            System.arraycopy(
+                bundle, 0, it, 0, size
+            );
+            bundle = it;
+        }
+    }
 }
@@ -28,8 +28,12 @@ import java.io.IOException;
 import java.lang.reflect.Type;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.Locale;
 import java.util.TimeZone;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -39,15 +43,27 @@ import java.util.concurrent.atomic.AtomicLong;
  * @author kraity
  * @since 0.0.1
  */
-public class DateSpare extends SimpleDateFormat implements Spare<Date> {
+public class DateSpare implements Spare<Date> {
 
     public static final DateSpare
         INSTANCE = new DateSpare();
 
+    /**
+     * The first instant of the gregorian calendar,
+     * earlier dates are handed over to {@link SimpleDateFormat}
+     */
+    private static final long CUTOVER = -12219292800000L;
+    private static final long DAY = 86400000L;
+
+    private final TimeZone zone;
+    private final byte[] field;
+    private final char[] width;
+    private final ThreadLocal<SimpleDateFormat> local;
+
     public DateSpare() {
-        super(Config.get(
+        this(Config.get(
             "kat.spare.date.format", "yyyy-MM-dd HH:mm:ss"
-        ));
+        ), "", "");
     }
 
     public DateSpare(
@@ -61,12 +77,117 @@ public class DateSpare extends SimpleDateFormat implements Spare<Date> {
         @NotNull String zone,
         @NotNull String language
     ) {
-        super(pattern, LocaleSpare.lookup(language, Locale.Category.FORMAT));
+        SimpleDateFormat fmt = new SimpleDateFormat(
+            pattern, LocaleSpare.lookup(language, Locale.Category.FORMAT)
+        );
         if (!zone.isEmpty()) {
-            super.setTimeZone(
+            fmt.setTimeZone(
                 TimeZone.getTimeZone(zone)
             );
         }
+
+        this.zone = fmt.getTimeZone();
+        this.local = ThreadLocal.withInitial(
+            () -> (SimpleDateFormat) fmt.clone()
+        );
+
+        int size = 0, l = pattern.length();
+        byte[] field = new byte[l];
+        char[] width = new char[l];
+
+        for (int i = 0; i < l; ) {
+            char c = pattern.charAt(i++);
+            if (c == '\'') {
+                if (i < l && pattern.charAt(i) == '\'') {
+                    width[size++] = '\'';
+                    i++;
+                    continue;
+                }
+                while (true) {
+                    if (i == l) {
+                        // unclosed quote
+                        size = -1;
+                        break;
+                    }
+                    c = pattern.charAt(i++);
+                    if (c == '\'') {
+                        if (i < l && pattern.charAt(i) == '\'') {
+                            width[size++] = '\'';
+                            i++;
+                            continue;
+                        }
+                        break;
+                    }
+                    width[size++] = c;
+                }
+            } else if ((c >= 'a' && c <= 'z') ||
+                (c >= 'A' && c <= 'Z')) {
+                int n = 1;
+                while (i < l && pattern.charAt(i) == c) {
+                    i++;
+                    n++;
+                }
+                switch (c) {
+                    case 'y': {
+                        // two-digit years depend on the century window
+                        if (n <= 2) {
+                            size = -1;
+                        }
+                        break;
+                    }
+                    case 'M': {
+                        // month names depend on the locale
+                        if (n > 2) {
+                            size = -1;
+                        }
+                        break;
+                    }
+                    case 'd':
+                    case 'H':
+                    case 'm':
+                    case 's':
+                    case 'S': {
+                        break;
+                    }
+                    default: {
+                        size = -1;
+                    }
+                }
+                if (size != -1) {
+                    field[size] = (byte) c;
+                    width[size++] = (char) n;
+                }
+            } else {
+                width[size++] = c;
+            }
+            if (size == -1) {
+                break;
+            }
+        }
+
+        if (size == -1 || !isPlain(fmt)) {
+            this.field = null;
+            this.width = null;
+        } else {
+            this.field = Arrays.copyOf(field, size);
+            this.width = Arrays.copyOf(width, size);
+        }
+    }
+
+    /**
+     * Returns true if the format counts gregorian years in ascii digits,
+     * not such as the buddhist or japanese imperial years, or thai digits
+     */
+    private static boolean isPlain(
+        @NotNull SimpleDateFormat fmt
+    ) {
+        if (fmt.getCalendar().getClass() != GregorianCalendar.class) {
+            return false;
+        }
+
+        NumberFormat nf = fmt.getNumberFormat();
+        return nf instanceof DecimalFormat &&
+            ((DecimalFormat) nf).getDecimalFormatSymbols().getZeroDigit() == '0';
     }
 
     @Override
@@ -181,14 +302,20 @@ public class DateSpare extends SimpleDateFormat implements Spare<Date> {
             return new Date(mil);
         }
 
-        String text = value.toString();
-        synchronized (this) {
-            try {
-                return parse(text);
-            } catch (Exception e) {
-                return null;
+        if (field != null) {
+            long time = parse(value);
+            if (time != Long.MIN_VALUE) {
+                return new Date(time);
             }
         }
+
+        try {
+            return local.get().parse(
+                value.toString()
+            );
+        } catch (Exception e) {
+            return null;
+        }
     }
 
     @Override
@@ -202,11 +329,14 @@ public class DateSpare extends SimpleDateFormat implements Spare<Date> {
                 date.getTime()
             );
         } else {
-            String time;
-            synchronized (this) {
-                time = format(date);
+            long time = date.getTime();
+            if (field == null || time < CUTOVER) {
+                flow.emit(
+                    local.get().format(date)
+                );
+            } else {
+                format(flow, time);
             }
-            flow.emit(time);
         }
     }
 
@@ -239,12 +369,10 @@ public class DateSpare extends SimpleDateFormat implements Spare<Date> {
                 if (d.isEmpty()) {
                     return null;
                 }
-                synchronized (this) {
-                    try {
-                        return parse(d);
-                    } catch (Exception e) {
-                        return null;
-                    }
+                try {
+                    return local.get().parse(d);
+                } catch (Exception e) {
+                    return null;
                 }
             }
 
@@ -264,4 +392,197 @@ public class DateSpare extends SimpleDateFormat implements Spare<Date> {
         }
         return null;
     }
+
+    /**
+     * Formats the specified epoch milliseconds into the {@link Flow}
+     */
+    private void format(
+        @NotNull Flow flow,
+        long time
+    ) throws IOException {
+        long local = time + zone.getOffset(time);
+        long days = Math.floorDiv(local, DAY);
+        int mod = (int) Math.floorMod(local, DAY);
+
+        // civil from days, see http://howardhinnant.github.io/date_algorithms.html
+        long z = days + 719468;
+        long era = Math.floorDiv(z, 146097);
+        int doe = (int) (z - era * 146097);
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int d = doy - (153 * mp + 2) / 5 + 1;
+        int m = mp < 10 ? mp + 3 : mp - 9;
+        int y = (int) (yoe + era * 400) + (m <= 2 ? 1 : 0);
+
+        byte[] field = this.field;
+        char[] width = this.width;
+        for (int i = 0; i < field.length; i++) {
+            int num;
+            switch (field[i]) {
+                case 0: {
+                    flow.emit(width[i]);
+                    continue;
+                }
+                case 'y': {
+                    num = y;
+                    break;
+                }
+                case 'M': {
+                    num = m;
+                    break;
+                }
+                case 'd': {
+                    num = d;
+                    break;
+                }
+                case 'H': {
+                    num = mod / 3600000;
+                    break;
+                }
+                case 'm': {
+                    num = mod / 60000 % 60;
+                    break;
+                }
+                case 's': {
+                    num = mod / 1000 % 60;
+                    break;
+                }
+                default: {
+                    num = mod % 1000;
+                }
+            }
+
+            int k = 1;
+            for (int v = num; v >= 10; v /= 10) {
+                k++;
+            }
+            for (int n = width[i]; n > k; n--) {
+                flow.emit((byte) '0');
+            }
+            flow.emit(num);
+        }
+    }
+
+    /**
+     * Parses the epoch milliseconds from the {@link Value},
+     * returns {@link Long#MIN_VALUE} if it needs {@link SimpleDateFormat} to decide
+     */
+    private long parse(
+        @NotNull Value value
+    ) {
+        int y = 1970, M = 1, d = 1,
+            H = 0, m = 0, s = 0, S = 0;
+
+        byte[] field = this.field;
+        char[] width = this.width;
+        int i = 0, l = value.length();
+
+        for (int x = 0; x < field.length; x++) {
+            byte f = field[x];
+            if (f == 0) {
+                if (i < l && value.at(i) == width[x]) {
+                    i++;
+                    continue;
+                }
+                return Long.MIN_VALUE;
+            }
+
+            // abutting numeric fields take a fixed width
+            int max = x + 1 < field.length &&
+                field[x + 1] != 0 ? width[x] : 9;
+            int num = 0, k = 0;
+            while (k < max && i < l) {
+                byte b = value.at(i);
+                if (b < 0x30 || b > 0x39) {
+                    break;
+                }
+                num = num * 10 + (b - 0x30);
+                i++;
+                k++;
+            }
+            if (k == 0 || k == 9) {
+                return Long.MIN_VALUE;
+            }
+
+            switch (f) {
+                case 'y': {
+                    y = num;
+                    break;
+                }
+                case 'M': {
+                    M = num;
+                    break;
+                }
+                case 'd': {
+                    d = num;
+                    break;
+                }
+                case 'H': {
+                    H = num;
+                    break;
+                }
+                case 'm': {
+                    m = num;
+                    break;
+                }
+                case 's': {
+                    s = num;
+                    break;
+                }
+                default: {
+                    S = num;
+                }
+            }
+        }
+
+        // lenient values are left to SimpleDateFormat
+        if (y < 1583 || M < 1 || M > 12 || d < 1 ||
+            d > 28 && d > length(y, M) || H > 23 || m > 59 || s > 59 || S > 999) {
+            return Long.MIN_VALUE;
+        }
+
+        // days from civil
+        int yy = M <= 2 ? y - 1 : y;
+        int era = yy / 400;
+        int yoe = yy - era * 400;
+        int doy = (153 * (M > 2 ? M - 3 : M + 9) + 2) / 5 + d - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        long days = era * 146097L + doe - 719468;
+
+        long local = days * DAY + H * 3600000L + m * 60000L + s * 1000L + S;
+        int offset = zone.getOffset(
+            local - zone.getRawOffset()
+        );
+
+        // transitions of daylight saving time
+        long time = local - offset;
+        if (zone.getOffset(time - DAY) != offset ||
+            zone.getOffset(time + DAY) != offset) {
+            return Long.MIN_VALUE;
+        }
+        return time;
+    }
+
+    /**
+     * Returns the number of days in the month
+     */
+    private static int length(
+        int y, int m
+    ) {
+        switch (m) {
+            case 2: {
+                return (y & 3) == 0 && (y % 100 != 0 || y % 400 == 0) ? 29 : 28;
+            }
+            case 4:
+            case 6:
+            case 9:
+            case 11: {
+                return 30;
+            }
+            default: {
+                return 31;
+            }
+        }
+    }
 }
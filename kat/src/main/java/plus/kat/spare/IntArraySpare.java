@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.spare;
+
+import plus.kat.anno.NotNull;
+
+import plus.kat.*;
+import plus.kat.chain.*;
+
+import java.io.IOException;
+
+/**
+ * Reads and writes {@code int[]} without boxing the elements
+ *
+ * @author kraity
+ * @since 0.0.5
+ */
+public class IntArraySpare extends ArraySpare.Primitive {
+
+    public static final IntArraySpare
+        INSTANCE = new IntArraySpare();
+
+    public IntArraySpare() {
+        super(
+            int[].class, IntegerSpare.INSTANCE
+        );
+    }
+
+    @Override
+    protected void store(
+        @NotNull Object array, int index, @NotNull Value value
+    ) {
+        ((int[]) array)[index] = value.toInt();
+    }
+
+    @Override
+    protected void emit(
+        @NotNull Flow flow, @NotNull Object array, int index
+    ) throws IOException {
+        flow.emit(
+            ((int[]) array)[index]
+        );
+    }
+}
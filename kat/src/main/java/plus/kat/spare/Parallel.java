@@ -0,0 +1,571 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.spare;
+
+import plus.kat.anno.NotNull;
+
+import plus.kat.*;
+import plus.kat.crash.*;
+import plus.kat.stream.*;
+import plus.kat.utils.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import static plus.kat.spare.Parser.Group;
+
+/**
+ * Decodes newline-delimited documents, one document per line, across cores
+ * <p>
+ * The data is split into chunks at line boundaries, each chunk is decoded
+ * by a {@link Parser} borrowed from {@link Group} on the {@link Executor},
+ * and the results are delivered on the calling thread, in the order of
+ * the documents or in the order the chunks complete
+ *
+ * <pre>{@code
+ *   Parallel<User> parallel = new Parallel<>(spare, Algo.JSON);
+ *   List<User> users = parallel.solve(bytes);
+ *
+ *   parallel.solve(
+ *       stream, user -> {...}, false
+ *   );
+ * }</pre>
+ *
+ * @author kraity
+ * @since 0.0.5
+ */
+public class Parallel<T> {
+
+    public static final int CHUNK, WINDOW;
+
+    static final byte LF = '\n';
+
+    static {
+        CHUNK = Math.max(
+            Config.get(
+                "kat.parallel.chunk", 128 * 1024
+            ), 1024
+        );
+        WINDOW = Math.max(
+            Config.get(
+                "kat.parallel.window", Runtime.getRuntime().availableProcessors() * 2
+            ), 1
+        );
+    }
+
+    protected final Algo algo;
+    protected final Spare<T> spare;
+    protected final Executor executor;
+
+    /**
+     * Decodes on the common {@link ForkJoinPool}
+     *
+     * @param spare the specified spare of the documents
+     * @param algo  the specified algo of the documents
+     * @throws NullPointerException If the specified {@code spare} or {@code algo} is null
+     */
+    public Parallel(
+        @NotNull Spare<T> spare,
+        @NotNull Algo algo
+    ) {
+        this(
+            spare, algo, ForkJoinPool.commonPool()
+        );
+    }
+
+    /**
+     * @param spare    the specified spare of the documents
+     * @param algo     the specified algo of the documents
+     * @param executor the specified executor to decode the chunks
+     * @throws NullPointerException If the specified {@code spare}, {@code algo} or {@code executor} is null
+     */
+    public Parallel(
+        @NotNull Spare<T> spare,
+        @NotNull Algo algo,
+        @NotNull Executor executor
+    ) {
+        if (spare == null ||
+            algo == null ||
+            executor == null) {
+            throw new NullPointerException();
+        }
+
+        this.algo = algo;
+        this.spare = spare;
+        this.executor = executor;
+    }
+
+    /**
+     * Decodes the documents of the specified bytes in order
+     *
+     * @param data the specified bytes to be decoded
+     * @throws Collapse If parsing fails or a result is null
+     */
+    @NotNull
+    public List<T> solve(
+        @NotNull byte[] data
+    ) {
+        List<T> list = new ArrayList<>();
+        solve(
+            data, 0, data.length, list::add, true
+        );
+        return list;
+    }
+
+    /**
+     * Decodes the documents of the specified bytes
+     *
+     * @param data     the specified bytes to be decoded
+     * @param i        the specified offset of the bytes
+     * @param l        the specified length of the bytes
+     * @param consumer the specified consumer called on the calling thread
+     * @param ordered  whether to deliver in the order of the documents
+     * @throws Collapse                  If parsing fails or a result is null
+     * @throws IndexOutOfBoundsException If the offset or length is out of range
+     */
+    public void solve(
+        @NotNull byte[] data, int i, int l,
+        @NotNull Consumer<? super T> consumer,
+        boolean ordered
+    ) {
+        if (i < 0 || l < 0 || i + l > data.length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        Pipeline pipe =
+            new Pipeline(consumer, ordered);
+        try {
+            int e = i + l;
+            while (i < e) {
+                int j = i + CHUNK;
+                if (j < e) {
+                    j = Binary.indexOf(
+                        data, j, e, LF, LF
+                    );
+                    if (j < e) j++;
+                } else {
+                    j = e;
+                }
+                pipe.submit(
+                    data, i, j
+                );
+                i = j;
+            }
+            pipe.finish();
+        } finally {
+            pipe.cancel();
+        }
+    }
+
+    /**
+     * Decodes the documents of the remaining bytes in the specified buffer,
+     * a direct or mapped buffer is copied chunk by chunk, the buffer is not moved
+     *
+     * @param buffer   the specified buffer to be decoded
+     * @param consumer the specified consumer called on the calling thread
+     * @param ordered  whether to deliver in the order of the documents
+     * @throws Collapse If parsing fails or a result is null
+     */
+    public void solve(
+        @NotNull ByteBuffer buffer,
+        @NotNull Consumer<? super T> consumer,
+        boolean ordered
+    ) {
+        if (buffer.hasArray()) {
+            solve(
+                buffer.array(),
+                buffer.arrayOffset() + buffer.position(),
+                buffer.remaining(), consumer, ordered
+            );
+            return;
+        }
+
+        Pipeline pipe =
+            new Pipeline(consumer, ordered);
+        try {
+            submit(
+                buffer.duplicate(), null, pipe, true
+            );
+            pipe.finish();
+        } finally {
+            pipe.cancel();
+        }
+    }
+
+    /**
+     * Submits the chunks of the specified view, each ending with a line feed,
+     * and returns the bytes after the last line feed, if this is not the last view
+     *
+     * @param view the specified view to be split, its position is moved
+     * @param rest the bytes left by the previous view, may be null
+     * @param pipe the specified pipeline to be submitted to
+     * @param last whether no view follows this one
+     */
+    private byte[] submit(
+        ByteBuffer view,
+        byte[] rest,
+        Pipeline pipe,
+        boolean last
+    ) {
+        int i = view.position();
+        int e = view.limit();
+        while (i < e) {
+            int r = rest == null ? 0 : rest.length;
+            int j = i + Math.max(CHUNK - r, 0);
+            if (j < e) {
+                while (j < e) {
+                    if (view.get(j++) == LF) {
+                        break;
+                    }
+                }
+                if (!last && view.get(j - 1) != LF) {
+                    j = -1;
+                }
+            } else {
+                j = last ? e : -1;
+            }
+
+            int n = (j == -1 ? e : j) - i;
+            byte[] it = new byte[r + n];
+            if (r != 0) {
+                System.arraycopy(
+                    rest, 0, it, 0, r
+                );
+            }
+            ((Buffer) view).position(i);
+            view.get(it, r, n);
+
+            // carried into the next view
+            if (j == -1) {
+                return it;
+            }
+
+            pipe.submit(
+                it, 0, it.length
+            );
+            rest = null;
+            i = j;
+        }
+        if (rest != null && last) {
+            pipe.submit(
+                rest, 0, rest.length
+            );
+            rest = null;
+        }
+        return rest;
+    }
+
+    /**
+     * Decodes the documents of the specified file, mapped window by window,
+     * each window is unmapped once its chunks are copied
+     *
+     * @param path     the specified file to be decoded
+     * @param consumer the specified consumer called on the calling thread
+     * @param ordered  whether to deliver in the order of the documents
+     * @throws Collapse    If parsing fails or a result is null
+     * @throws IOException If an I/O error occurs
+     */
+    public void solve(
+        @NotNull Path path,
+        @NotNull Consumer<? super T> consumer,
+        boolean ordered
+    ) throws IOException {
+        try (FileChannel ch = FileChannel.open(
+            path, StandardOpenOption.READ
+        )) {
+            long size = ch.size();
+            Pipeline pipe =
+                new Pipeline(consumer, ordered);
+            try {
+                byte[] rest = null;
+                long window = window();
+                for (long i = 0; i < size; i += window) {
+                    long l = Math.min(
+                        window, size - i
+                    );
+                    MappedByteBuffer buf = ch.map(
+                        FileChannel.MapMode.READ_ONLY, i, l
+                    );
+                    try {
+                        rest = submit(
+                            buf, rest, pipe, i + l == size
+                        );
+                    } finally {
+                        MappedByteReader.unmap(buf);
+                    }
+                }
+                pipe.finish();
+            } finally {
+                pipe.cancel();
+            }
+        }
+    }
+
+    /**
+     * Returns the size of each mapped window of a file
+     *
+     * @see MappedByteReader#WINDOW
+     */
+    protected long window() {
+        return MappedByteReader.WINDOW;
+    }
+
+    /**
+     * Decodes the documents of the specified stream, the stream is read
+     * on the calling thread and at most {@link #WINDOW} chunks are in flight
+     *
+     * @param stream   the specified stream to be decoded
+     * @param consumer the specified consumer called on the calling thread
+     * @param ordered  whether to deliver in the order of the documents
+     * @throws Collapse    If parsing fails or a result is null
+     * @throws IOException If an I/O error occurs
+     */
+    public void solve(
+        @NotNull InputStream stream,
+        @NotNull Consumer<? super T> consumer,
+        boolean ordered
+    ) throws IOException {
+        Pipeline pipe =
+            new Pipeline(consumer, ordered);
+        try {
+            int n = 0;
+            byte[] it = new byte[CHUNK];
+            while (true) {
+                int m = stream.read(
+                    it, n, it.length - n
+                );
+                if (m == -1) {
+                    if (n != 0) {
+                        pipe.submit(
+                            it, 0, n
+                        );
+                    }
+                    break;
+                }
+
+                n += m;
+                if (n < it.length) {
+                    continue;
+                }
+
+                int j = n;
+                while (--j >= 0) {
+                    if (it[j] == LF) {
+                        break;
+                    }
+                }
+
+                // a line longer than the chunk
+                if (j < 0) {
+                    it = Arrays.copyOf(
+                        it, it.length * 2
+                    );
+                    continue;
+                }
+
+                byte[] tmp = new byte[CHUNK];
+                n -= ++j;
+                if (n > tmp.length) {
+                    tmp = new byte[n * 2];
+                }
+                System.arraycopy(
+                    it, j, tmp, 0, n
+                );
+                pipe.submit(
+                    it, 0, j
+                );
+                it = tmp;
+            }
+            pipe.finish();
+        } finally {
+            pipe.cancel();
+        }
+    }
+
+    /**
+     * Decodes the documents of the specified chunk,
+     * one document per line and blank lines are skipped
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    @NotNull
+    protected List<T> decode(
+        @NotNull byte[] data, int i, int e
+    ) throws IOException {
+        List<T> list = new ArrayList<>();
+        Group group = Group.INS;
+        Parser parser = group.borrow();
+
+        try {
+            while (i < e) {
+                int j = Binary.indexOf(
+                    data, i, e, LF, LF
+                );
+                int k = i;
+                while (k < j) {
+                    byte b = data[k];
+                    if (b == 0x20 ||
+                        b == 0x09 ||
+                        b == 0x0D) {
+                        k++;
+                    } else break;
+                }
+                if (k < j) {
+                    Event<T> event = new Event<>(
+                        data, k, j - k
+                    );
+                    event.with(spare);
+                    list.add(
+                        parser.read(
+                            algo, event
+                        )
+                    );
+                    parser.clear();
+                }
+                i = j + 1;
+            }
+        } finally {
+            group.retreat(parser);
+        }
+
+        return list;
+    }
+
+    /**
+     * @author kraity
+     * @since 0.0.5
+     */
+    class Task extends FutureTask<List<T>> {
+
+        final BlockingQueue<Task> queue;
+
+        Task(
+            byte[] data, int i, int e,
+            BlockingQueue<Task> queue
+        ) {
+            super(() -> decode(
+                data, i, e
+            ));
+            this.queue = queue;
+        }
+
+        @Override
+        protected void done() {
+            if (queue != null) {
+                queue.add(this);
+            }
+        }
+    }
+
+    /**
+     * @author kraity
+     * @since 0.0.5
+     */
+    class Pipeline {
+
+        final Consumer<? super T> consumer;
+        final ArrayDeque<Task> pending;
+        final BlockingQueue<Task> complete;
+
+        Pipeline(
+            Consumer<? super T> consumer,
+            boolean ordered
+        ) {
+            if (consumer == null) {
+                throw new NullPointerException();
+            }
+
+            this.consumer = consumer;
+            this.pending = new ArrayDeque<>();
+            this.complete = ordered ? null : new LinkedBlockingQueue<>();
+        }
+
+        void submit(
+            byte[] data, int i, int e
+        ) {
+            if (pending.size() >= WINDOW) {
+                deliver();
+            }
+
+            Task task = new Task(
+                data, i, e, complete
+            );
+            pending.add(task);
+            executor.execute(task);
+        }
+
+        void finish() {
+            while (!pending.isEmpty()) {
+                deliver();
+            }
+        }
+
+        void deliver() {
+            Task task;
+            if (complete == null) {
+                task = pending.poll();
+            } else {
+                try {
+                    task = complete.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new Collapse(
+                        "Interrupted while decoding " + algo, e
+                    );
+                }
+                pending.remove(task);
+            }
+
+            List<T> list;
+            try {
+                list = task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new Collapse(
+                    "Interrupted while decoding " + algo, e
+                );
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Collapse) {
+                    throw (Collapse) cause;
+                }
+                throw new Collapse(
+                    "Failed to decode " + algo, cause
+                );
+            }
+
+            for (T it : list) {
+                consumer.accept(it);
+            }
+        }
+
+        void cancel() {
+            Task task;
+            while ((task = pending.poll()) != null) {
+                task.cancel(false);
+            }
+        }
+    }
+}
@@ -27,6 +27,9 @@ import plus.kat.utils.*;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 /**
  * @author kraity
@@ -138,15 +141,7 @@ public class Parser implements Proxy, Closeable {
         } finally {
             coder.clear();
             reader.close();
-            Builder<?> a = active;
-            if (a != null) {
-                Builder<?> b;
-                active = null;
-                do {
-                    b = a.getParent();
-                    a.onDetach();
-                } while (b != null);
-            }
+            revoke();
         }
 
         throw new Collapse(
@@ -169,29 +164,40 @@ public class Parser implements Proxy, Closeable {
         @NotNull Algo algo,
         @NotNull Event<T> event
     ) throws IOException {
+        return read(
+            solver(algo), event
+        );
+    }
+
+    /**
+     * Returns the {@link Solver} of the specified {@link Algo}
+     *
+     * @param algo the specified algo of solver
+     * @throws FatalCrash           If no solver available for algo is found
+     * @throws NullPointerException If the specified {@code algo} is null
+     * @since 0.0.5
+     */
+    @NotNull
+    public Solver solver(
+        @NotNull Algo algo
+    ) {
         switch (algo.name()) {
             case "kat": {
-                return read(
-                    radar, event
-                );
+                return radar;
             }
             case "xml": {
                 Solver it = dotry;
                 if (it == null) {
                     dotry = it = new Dotry(radar);
                 }
-                return read(
-                    it, event
-                );
+                return it;
             }
             case "json": {
                 Solver it = sodar;
                 if (it == null) {
                     sodar = it = new Sodar(radar);
                 }
-                return read(
-                    it, event
-                );
+                return it;
             }
             default: {
                 throw new FatalCrash(
@@ -298,6 +304,24 @@ public class Parser implements Proxy, Closeable {
         }
     }
 
+    /**
+     * Detaches the builders left by an interrupted parsing
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    protected void revoke()
+        throws IOException {
+        Builder<?> a = active;
+        if (a != null) {
+            Builder<?> b;
+            active = null;
+            do {
+                b = a.getParent();
+                a.onDetach();
+            } while ((a = b) != null);
+        }
+    }
+
     /**
      * Check if used by other threads
      */
@@ -350,11 +374,789 @@ public class Parser implements Proxy, Closeable {
         radar.close();
     }
 
+    /**
+     * Push parsing of an {@link Event}, the bytes are fed as they arrive
+     *
+     * <pre>{@code
+     *   Parser.Feed<User> feed =
+     *       new Parser.Feed<>(Algo.JSON, new Event<User>().with(User.class));
+     *
+     *   while (feed.feed(bytes, 0, length) != Feeder.COMPLETE) {
+     *       length = ...; // wait for more bytes
+     *   }
+     *   User user = feed.get();
+     * }</pre>
+     *
+     * @author kraity
+     * @since 0.0.5
+     */
+    public static class Feed<T> extends Feeder {
+
+        protected final Parser parser;
+
+        /**
+         * @param algo  the specified algo of solver
+         * @param event the specified event to be handled
+         * @throws FatalCrash           If no solver available for algo is found
+         * @throws NullPointerException If the specified {@code algo} or {@code event} is null
+         */
+        public Feed(
+            @NotNull Algo algo,
+            @NotNull Event<T> event
+        ) {
+            this(
+                new Parser(), algo, event
+            );
+        }
+
+        /**
+         * @param parser the specified parser not shared with others
+         * @param algo   the specified algo of solver
+         * @param event  the specified event to be handled
+         */
+        public Feed(
+            @NotNull Parser parser,
+            @NotNull Algo algo,
+            @NotNull Event<T> event
+        ) {
+            super(
+                parser.solver(algo), parser
+            );
+            this.parser = parser;
+            parser.event = event;
+            parser.range = event.getRange();
+        }
+
+        /**
+         * Returns the result if {@link #COMPLETE}, otherwise null
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        public T get() {
+            if (isComplete()) {
+                return (T) parser.bundle;
+            }
+            return null;
+        }
+
+        /**
+         * Close this {@link Feed} and the parser
+         */
+        @Override
+        public void close() {
+            super.close();
+            solver.clear();
+            try {
+                parser.revoke();
+            } catch (IOException e) {
+                // Nothing
+            } finally {
+                parser.close();
+            }
+        }
+    }
+
+    /**
+     * Iterates the elements of a top-level array, or the documents separated by
+     * whitespace such as newline-delimited json, each element is parsed only
+     * when requested by this {@link Iterator}, so the whole result is never built
+     *
+     * <pre>{@code
+     *   // [{"id":1},{"id":2}] or {"id":1}\n{"id":2}
+     *   try (Parser.Sequence<User> it = new Parser.Sequence<>(
+     *       Algo.JSON, new Event<User>(stream).with(spare)
+     *   )) {
+     *       while (it.hasNext()) {
+     *           User user = it.next();
+     *       }
+     *   }
+     * }</pre>
+     * The top-level array is {@code [...]} for json and {@code {...}} without aliases for kat,
+     * the scalar elements of json are read as values of the element spare, such as {@code [1,2,3]},
+     * xml only supports sequential documents
+     *
+     * @author kraity
+     * @since 0.0.5
+     */
+    public static class Sequence<T> implements Iterator<T>, Closeable {
+
+        protected final Algo algo;
+        protected final Parser parser;
+        protected final Solver solver;
+        protected final Reader reader;
+
+        private T next;
+        private int state;
+        private byte close;
+
+        private int depth;
+        private boolean wrap, reject, complete;
+
+        private int index, count;
+        private byte[] cache = new byte[8];
+        private final Slice slice = new Slice();
+
+        /**
+         * @param algo  the specified algo of solver
+         * @param event the specified event to be handled
+         * @throws Collapse             If the reader of event is null
+         * @throws FatalCrash           If no solver available for algo is found
+         * @throws NullPointerException If the specified {@code algo} or {@code event} is null
+         */
+        public Sequence(
+            @NotNull Algo algo,
+            @NotNull Event<T> event
+        ) {
+            this(
+                new Parser(), algo, event
+            );
+        }
+
+        /**
+         * @param parser the specified parser not shared with others
+         * @param algo   the specified algo of solver
+         * @param event  the specified event to be handled
+         * @throws Collapse             If the reader of event is null
+         * @throws FatalCrash           If no solver available for algo is found
+         * @throws NullPointerException If the specified {@code algo} or {@code event} is null
+         */
+        public Sequence(
+            @NotNull Parser parser,
+            @NotNull Algo algo,
+            @NotNull Event<T> event
+        ) {
+            Reader r = event.getReader();
+            if (r == null) {
+                throw new Collapse(
+                    "Reader is null"
+                );
+            }
+
+            this.algo = algo;
+            this.reader = r;
+            this.parser = parser;
+            this.solver = parser.solver(algo);
+            parser.event = event;
+            parser.range = event.getRange();
+        }
+
+        /**
+         * Returns true if there is a next element
+         *
+         * @throws Collapse If parsing fails or the element is null
+         */
+        @Override
+        public boolean hasNext() {
+            switch (state) {
+                case 1: {
+                    return true;
+                }
+                case 2: {
+                    return false;
+                }
+            }
+
+            try {
+                if (state == 0) {
+                    state = 3;
+                    open();
+                }
+                if (advance()) {
+                    state = 1;
+                    return true;
+                }
+            } catch (Collapse e) {
+                close();
+                throw e;
+            } catch (Exception e) {
+                close();
+                throw new Collapse(
+                    "Failed to iterate " + algo, e
+                );
+            }
+
+            close();
+            return false;
+        }
+
+        /**
+         * Returns the next element
+         *
+         * @throws Collapse               If parsing fails or the element is null
+         * @throws NoSuchElementException If there are no more elements
+         */
+        @Override
+        public T next() {
+            if (hasNext()) {
+                T it = next;
+                next = null;
+                state = 3;
+                return it;
+            }
+            throw new NoSuchElementException();
+        }
+
+        /**
+         * Detects the top-level array, the bytes
+         * read ahead are replayed to the solver
+         */
+        private void open()
+            throws IOException {
+            int b = skip();
+            if (b == -1) {
+                return;
+            }
+
+            switch (algo.name()) {
+                case "json": {
+                    if (b == '[') {
+                        close = ']';
+                    } else {
+                        unread((byte) b);
+                    }
+                    return;
+                }
+                case "kat": {
+                    // space of the array
+                    while (b != '{') {
+                        unread((byte) b);
+                        if (b == '(' ||
+                            b == ':' ||
+                            !reader.also()) {
+                            return;
+                        }
+                        b = reader.read();
+                    }
+
+                    int c = skip();
+                    if (c == -1 || c == ':') {
+                        unread((byte) b);
+                        if (c != -1) {
+                            unread((byte) c);
+                        }
+                        return;
+                    }
+
+                    count = 0;
+                    close = '}';
+                    unread((byte) c);
+                    return;
+                }
+                default: {
+                    unread((byte) b);
+                }
+            }
+        }
+
+        /**
+         * Parses the next element
+         */
+        @SuppressWarnings("unchecked")
+        private boolean advance()
+            throws IOException {
+            int b;
+            if (index < count) {
+                b = cache[index];
+            } else {
+                index = count = 0;
+                b = skip();
+                if (b == -1) {
+                    if (close == 0) {
+                        return false;
+                    }
+                    throw new ReaderCrash(
+                        "Unexpectedly, the array is not closed"
+                    );
+                }
+                unread((byte) b);
+            }
+
+            if (b == close &&
+                close != 0) {
+                return false;
+            }
+
+            depth = 0;
+            reject = false;
+            complete = false;
+
+            // the scalar of json is wrapped
+            // in the array to be solved as
+            // an element of it
+            wrap = close == ']' &&
+                b != '{' && b != '[';
+            if (wrap) {
+                shift((byte) '[');
+            }
+
+            try {
+                solver.read(
+                    slice, slice
+                );
+                if (!complete) {
+                    throw new ReaderCrash(
+                        "Unexpectedly, the element is incomplete"
+                    );
+                }
+            } finally {
+                solver.clear();
+            }
+
+            Object data = parser.bundle;
+            if (data == null) {
+                throw new Collapse(
+                    "Parsing error, the element is null"
+                );
+            }
+
+            parser.bundle = null;
+            next = (T) data;
+            return true;
+        }
+
+        /**
+         * Reads the next byte that is not a separator
+         *
+         * @return the byte read, or {@code -1} if there are no more readable bytes
+         */
+        private int skip()
+            throws IOException {
+            Reader r = reader;
+            while (r.also()) {
+                byte b = r.read();
+                switch (b) {
+                    case 0x09:
+                    case 0x0A:
+                    case 0x0D:
+                    case 0x20: {
+                        continue;
+                    }
+                    case ',': {
+                        if (close == ']') {
+                            continue;
+                        }
+                    }
+                }
+                return b;
+            }
+            return -1;
+        }
+
+        /**
+         * Pushes back the specified byte read ahead
+         */
+        private void unread(byte b) {
+            byte[] it = cache;
+            if (count == it.length) {
+                byte[] tmp = new byte[count * 2];
+                System.arraycopy(
+                    it, 0, tmp, 0, count
+                );
+                cache = it = tmp;
+            }
+            it[count++] = b;
+        }
+
+        /**
+         * Pushes the specified byte in front of the bytes read ahead
+         */
+        private void shift(byte b) {
+            if (index != 0) {
+                cache[--index] = b;
+                return;
+            }
+
+            byte[] it = cache;
+            if (count == it.length) {
+                it = new byte[count * 2];
+            }
+            System.arraycopy(
+                cache, 0, it, 1, count
+            );
+            it[0] = b;
+            cache = it;
+            count++;
+        }
+
+        /**
+         * Close this {@link Sequence} and the parser
+         */
+        @Override
+        public void close() {
+            if (state != 2) {
+                state = 2;
+                next = null;
+                reader.close();
+                solver.clear();
+                try {
+                    parser.revoke();
+                } catch (IOException e) {
+                    // Nothing
+                } finally {
+                    parser.close();
+                }
+            }
+        }
+
+        /**
+         * A view of the reader and the parser limited to one element
+         *
+         * @author kraity
+         * @since 0.0.5
+         */
+        private final class Slice implements Reader, Proxy {
+            @Override
+            public byte read()
+                throws IOException {
+                if (index < count) {
+                    return cache[index++];
+                }
+                return reader.read();
+            }
+
+            @Override
+            public boolean also()
+                throws IOException {
+                if (complete) {
+                    return false;
+                }
+                return index < count || reader.also();
+            }
+
+            @Override
+            public int read(
+                @NotNull Alpha alpha, byte a, byte b
+            ) throws IOException {
+                if (complete) {
+                    return -1;
+                }
+                while (index < count) {
+                    byte c = cache[index++];
+                    if (c == a || c == b) {
+                        return c;
+                    }
+                    alpha.join(c);
+                }
+                return reader.read(
+                    alpha, a, b
+                );
+            }
+
+            @Override
+            public int skip(
+                @NotNull boolean[] table
+            ) throws IOException {
+                if (complete) {
+                    return -1;
+                }
+                while (index < count) {
+                    byte c = cache[index++];
+                    if (c >= 0 && table[c]) {
+                        return c;
+                    }
+                }
+                return reader.skip(table);
+            }
+
+            @Override
+            public void mark() {
+                // the rejected element is skipped
+                if (reject && depth == 0) {
+                    complete = true;
+                }
+            }
+
+            @Override
+            public boolean attach(
+                @NotNull Space space,
+                @NotNull Alias alias
+            ) throws IOException {
+                if (wrap && depth == 0) {
+                    depth++;
+                    return true;
+                }
+                if (parser.attach(space, alias)) {
+                    depth++;
+                    return true;
+                }
+                if (depth == 0) {
+                    reject = true;
+                }
+                return false;
+            }
+
+            @Override
+            public void submit(
+                @NotNull Space space,
+                @NotNull Alias alias,
+                @NotNull Value value
+            ) throws IOException {
+                parser.submit(
+                    space, alias, value
+                );
+                if (depth == (wrap ? 1 : 0)) {
+                    complete = true;
+                }
+            }
+
+            @Override
+            public boolean detach()
+                throws IOException {
+                if (wrap && depth == 1) {
+                    // the terminator of the
+                    // array is read after it
+                    depth = 0;
+                    unread((byte) ']');
+                    return false;
+                }
+                boolean b = parser.detach();
+                if (--depth == 0) {
+                    complete = true;
+                }
+                return b;
+            }
+        }
+    }
+
+    /**
+     * Selects the values matched by a path such as {@code /data/items/0/id} while parsing,
+     * the path is a json pointer whose segments are aliases, indexes of elements or {@code *}
+     * matching any child, each matched value is built and handed to the consumer at once,
+     * and the subtrees not on the path are declined, so the solver skips them without building
+     *
+     * <pre>{@code
+     *   // {"data":{"items":[{"id":1},{"id":2}]}}
+     *   List<User> users = new ArrayList<>();
+     *   new Parser.Select<User>(parser, "/data/items/*").read(
+     *       Algo.JSON, new Event<User>(stream).with(spare), users::add
+     *   );
+     * }</pre>
+     * The root element of xml is the document itself, so its name is not a segment of the path,
+     * and the elements of xml are matched by their names, since indexes only match elements without aliases
+     *
+     * @author kraity
+     * @since 0.0.5
+     */
+    public static class Select<T> implements Proxy {
+
+        protected final Parser parser;
+        protected final Alias[] path;
+
+        private final int[] rank;
+        private final int[] index;
+        private final boolean[] list;
+        private int level, depth;
+        private Consumer<? super T> action;
+
+        /**
+         * @param parser the specified parser for the matched values
+         * @param path   the specified json pointer, such as {@code /data/items/0/id},
+         *               empty for the whole document and {@code /} for the member named empty
+         * @throws Collapse             If the specified {@code path} is not empty and doesn't start with {@code /}
+         * @throws NullPointerException If the specified {@code parser} or {@code path} is null
+         */
+        public Select(
+            @NotNull Parser parser,
+            @NotNull CharSequence path
+        ) {
+            String p = path.toString();
+            if (!p.isEmpty() &&
+                p.charAt(0) != '/') {
+                throw new Collapse(
+                    "Pointer `" + p + "` doesn't start with '/'"
+                );
+            }
+
+            String[] list = p.isEmpty() ?
+                new String[0] : p.substring(1).split("/", -1);
+
+            int size = list.length;
+            this.parser = parser;
+            this.path = new Alias[size];
+            this.rank = new int[size];
+            this.index = new int[size + 1];
+            this.list = new boolean[size + 1];
+
+            for (int n = 0; n < size; n++) {
+                String it = list[n]
+                    .replace("~1", "/")
+                    .replace("~0", "~");
+                this.path[n] = new Alias(it);
+
+                int r = it.isEmpty() ? -1 : 0;
+                for (int k = 0; k < it.length() && r != -1; k++) {
+                    char c = it.charAt(k);
+                    if (c < '0' || c > '9' || r > 0xFFFFFF) {
+                        r = -1;
+                    } else {
+                        r = r * 10 + c - '0';
+                    }
+                }
+                this.rank[n] = r;
+            }
+        }
+
+        /**
+         * Parses the {@link Event} and hands each matched value to the consumer
+         *
+         * @param algo   the specified algo of solver
+         * @param event  the specified event to be handled
+         * @param action the specified consumer of matched values
+         * @throws Collapse             If the reader of event is null
+         * @throws FatalCrash           If no solver available for algo is found
+         * @throws IOException          Unexpected errors by {@link Proxy} or {@link Reader}
+         * @throws NullPointerException If the specified {@code algo}, {@code event} or {@code action} is null
+         */
+        public void read(
+            @NotNull Algo algo,
+            @NotNull Event<T> event,
+            @NotNull Consumer<? super T> action
+        ) throws IOException {
+            Reader reader =
+                event.getReader();
+            if (reader == null) {
+                throw new Collapse(
+                    "Reader is null"
+                );
+            }
+
+            Parser p = parser;
+            Solver solver =
+                p.solver(algo);
+
+            p.event = event;
+            p.range = event.getRange();
+
+            level = 0;
+            depth = 0;
+            this.action = action;
+
+            try {
+                if (reader.also()) {
+                    solver.read(
+                        this, reader
+                    );
+                }
+            } finally {
+                this.action = null;
+                solver.clear();
+                reader.close();
+                p.revoke();
+            }
+        }
+
+        /**
+         * Returns true if the child at the current level is on the path
+         */
+        private boolean match(
+            @NotNull Alias alias
+        ) {
+            int l = level;
+            int i = index[l]++;
+            Alias it = path[l - 1];
+            if (it.is('*')) {
+                return true;
+            }
+            if (alias.isEmpty()) {
+                if (rank[l - 1] == i) {
+                    return true;
+                }
+                // the member named empty
+                return !list[l] && it.isEmpty();
+            }
+            return it.equals(alias);
+        }
+
+        /**
+         * Hands the result of the parser to the consumer
+         */
+        @SuppressWarnings("unchecked")
+        private void accept() {
+            Object data = parser.bundle;
+            if (data != null) {
+                parser.bundle = null;
+                action.accept((T) data);
+            }
+        }
+
+        @Override
+        public boolean attach(
+            @NotNull Space space,
+            @NotNull Alias alias
+        ) throws IOException {
+            if (depth != 0) {
+                if (parser.attach(space, alias)) {
+                    depth++;
+                    return true;
+                }
+                return false;
+            }
+
+            int l = level;
+            if (l != 0 && !match(alias)) {
+                return false;
+            }
+
+            if (l == path.length) {
+                if (parser.attach(space, alias)) {
+                    depth = 1;
+                    return true;
+                }
+                return false;
+            }
+
+            index[++level] = 0;
+            list[level] = space.is('L');
+            return true;
+        }
+
+        @Override
+        public void submit(
+            @NotNull Space space,
+            @NotNull Alias alias,
+            @NotNull Value value
+        ) throws IOException {
+            if (depth != 0) {
+                parser.submit(
+                    space, alias, value
+                );
+                return;
+            }
+
+            int l = level;
+            if (l == path.length) {
+                if (l == 0 || match(alias)) {
+                    parser.submit(
+                        space, alias, value
+                    );
+                    accept();
+                }
+            } else if (l != 0) {
+                index[l]++;
+            }
+        }
+
+        @Override
+        public boolean detach()
+            throws IOException {
+            if (depth != 0) {
+                parser.detach();
+                if (--depth != 0) {
+                    return true;
+                }
+                accept();
+            } else {
+                --level;
+            }
+            return level != 0;
+        }
+    }
+
     /**
      * @author kraity
      * @since 0.0.1
      */
-    public static class Group extends KatCluster<Parser> {
+    public static class Group extends KatPool<Parser> {
 
         /**
          * default cluster
@@ -365,9 +1167,11 @@ public class Parser implements Proxy, Closeable {
         public Group() {
             super(Config.get(
                 "kat.parser.capacity", 16
-            ), Config.get(
-                "kat.parser.block", true
-            ));
+            ), policy(Config.get(
+                "kat.parser.policy", Config.get(
+                    "kat.parser.block", true
+                ) ? "spin" : "discard"
+            ), SPIN));
         }
 
         @Override
@@ -15,7 +15,10 @@
  */
 package plus.kat.stream;
 
+import plus.kat.anno.NotNull;
+
 import plus.kat.crash.*;
+import plus.kat.kernel.*;
 
 import java.io.IOException;
 
@@ -175,4 +178,62 @@ public abstract class AbstractReader implements Reader {
             "Unexpectedly, no readable byte"
         );
     }
+
+    /**
+     * Copies bytes into the specified {@link Alpha} until one of the two
+     * delimiters is read, scanning the cache and copying it in bulk
+     *
+     * @return the delimiter read, or {@code -1} if there are no more readable bytes
+     * @throws IOException If this has been closed or I/O error occurs
+     */
+    @Override
+    public int read(
+        @NotNull Alpha alpha, byte a, byte b
+    ) throws IOException {
+        while (also()) {
+            int i = index;
+            int o = offset;
+            byte[] it = cache;
+
+            int j = Binary.indexOf(
+                it, i, o, a, b
+            );
+            if (j < o) {
+                alpha.join(
+                    it, i, j - i
+                );
+                index = j + 1;
+                return it[j];
+            }
+
+            alpha.join(
+                it, i, o - i
+            );
+            index = o;
+        }
+        return -1;
+    }
+
+    /**
+     * @throws IOException If this has been closed or I/O error occurs
+     */
+    @Override
+    public int skip(
+        @NotNull boolean[] table
+    ) throws IOException {
+        while (also()) {
+            int o = offset;
+            byte[] it = cache;
+
+            int j = Binary.indexOf(
+                it, index, o, table
+            );
+            if (j < o) {
+                index = j + 1;
+                return it[j];
+            }
+            index = o;
+        }
+        return -1;
+    }
 }
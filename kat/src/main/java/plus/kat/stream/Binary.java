@@ -44,6 +44,136 @@ public final class Binary {
         'U', 'V', 'W', 'X', 'Y', 'Z'
     };
 
+    private static final long
+        LOW = 0x0101010101010101L,
+        HIGH = 0x8080808080808080L;
+
+    /**
+     * Returns the index of the first {@code a} or {@code b}
+     * in the specified range, scanning eight bytes per step
+     *
+     * <pre>{@code
+     *   byte[] it = "kraity\"".getBytes();
+     *   Binary.indexOf(it, 0, it.length, (byte) '"', (byte) '\\'); // 6
+     *   Binary.indexOf(it, 0, 6, (byte) '"', (byte) '\\'); // 6
+     * }</pre>
+     *
+     * @param it the specified array to be scanned
+     * @param i  the specified start index, inclusive
+     * @param o  the specified end index, exclusive
+     * @param a  the specified ascii delimiter
+     * @param b  the specified ascii delimiter
+     * @return the index in {@code [i, o]}, {@code o} if not found
+     * @since 0.0.5
+     */
+    public static int indexOf(
+        @NotNull byte[] it,
+        int i, int o, byte a, byte b
+    ) {
+        // short spans, no word view
+        int m = Math.min(i + 8, o);
+        for (; i < m; i++) {
+            byte c = it[i];
+            if (c == a || c == b) {
+                return i;
+            }
+        }
+
+        if (o - i >= 8) {
+            long pa = LOW * (a & 0xFF);
+            long pb = LOW * (b & 0xFF);
+
+            for (int n = o - 8; i <= n; i += 8) {
+                long w = word(it, i);
+                long x = w ^ pa;
+                long y = w ^ pb;
+
+                // a zero byte marks a delimiter,
+                // the lowest flag is always exact
+                long t = ((x - LOW) & ~x |
+                    (y - LOW) & ~y) & HIGH;
+                if (t != 0L) {
+                    return i + (Long.numberOfTrailingZeros(t) >>> 3);
+                }
+            }
+        }
+
+        for (; i < o; i++) {
+            byte c = it[i];
+            if (c == a || c == b) {
+                return i;
+            }
+        }
+        return o;
+    }
+
+    /**
+     * Returns the eight bytes from the specified index as a
+     * little-endian word, the lowest byte is the one at the index
+     */
+    private static long word(
+        byte[] it, int i
+    ) {
+        return (it[i] & 0xFFL)
+            | (it[i + 1] & 0xFFL) << 8
+            | (it[i + 2] & 0xFFL) << 16
+            | (it[i + 3] & 0xFFL) << 24
+            | (it[i + 4] & 0xFFL) << 32
+            | (it[i + 5] & 0xFFL) << 40
+            | (it[i + 6] & 0xFFL) << 48
+            | (it[i + 7] & 0xFFL) << 56;
+    }
+
+    /**
+     * Returns the table of the specified ascii delimiters
+     *
+     * <pre>{@code
+     *   boolean[] table = Binary.table('"', '\\');
+     *   table['"']; // true
+     *   table['k']; // false
+     * }</pre>
+     *
+     * @param list the specified ascii delimiters
+     * @return the table of length 128
+     * @throws ArrayIndexOutOfBoundsException If a delimiter is not ascii
+     * @since 0.0.5
+     */
+    @NotNull
+    public static boolean[] table(
+        @NotNull char... list
+    ) {
+        boolean[] table = new boolean[128];
+        for (char c : list) {
+            table[c] = true;
+        }
+        return table;
+    }
+
+    /**
+     * Returns the index of the first delimiter
+     * of the specified table in the specified range
+     *
+     * @param it    the specified array to be scanned
+     * @param i     the specified start index, inclusive
+     * @param o     the specified end index, exclusive
+     * @param table the specified table of ascii delimiters
+     * @return the index in {@code [i, o]}, {@code o} if not found
+     * @see Binary#table(char...)
+     * @since 0.0.5
+     */
+    public static int indexOf(
+        @NotNull byte[] it,
+        int i, int o, boolean[] table
+    ) {
+        for (; i < o; i++) {
+            byte c = it[i];
+            if (c >= 0 && table[c]) {
+                return i;
+            }
+        }
+        return o;
+    }
+
     /**
      * Convert the ascii character to a hexadecimal number
      *
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.stream;
+
+import plus.kat.anno.NotNull;
+
+import plus.kat.crash.*;
+import plus.kat.kernel.*;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link Reader} over the bytes between the position and the limit of a
+ * heap or direct {@link ByteBuffer}, read with absolute gets, the buffer is left untouched
+ *
+ * @author kraity
+ * @since 0.0.5
+ */
+public class ByteBufferReader implements Reader {
+
+    private int index;
+    private int offset;
+
+    private ByteBuffer value;
+    private ByteBuffer view;
+
+    /**
+     * @throws NullPointerException If the specified {@code data} is null
+     */
+    public ByteBufferReader(
+        @NotNull ByteBuffer data
+    ) {
+        if (data == null) {
+            throw new NullPointerException();
+        }
+
+        this.value = data;
+        this.index = data.position();
+        this.offset = data.limit();
+    }
+
+    @Override
+    public boolean also() {
+        return index < offset;
+    }
+
+    @Override
+    public byte read() {
+        return value.get(index++);
+    }
+
+    @Override
+    public byte next() throws IOException {
+        if (index < offset) {
+            return value.get(index++);
+        }
+
+        throw new ReaderCrash(
+            "Unexpectedly, no readable byte"
+        );
+    }
+
+    @Override
+    public int read(
+        @NotNull Alpha alpha, byte a, byte b
+    ) {
+        int i = index;
+        int o = offset;
+        ByteBuffer it = value;
+
+        if (it.hasArray()) {
+            int k = it.arrayOffset();
+            byte[] ary = it.array();
+
+            int j = Binary.indexOf(
+                ary, i + k, o + k, a, b
+            ) - k;
+            alpha.join(
+                ary, i + k, j - i
+            );
+            if (j < o) {
+                index = j + 1;
+                return ary[j + k];
+            }
+            index = o;
+            return -1;
+        }
+
+        int j = i;
+        byte c = 0;
+        while (j < o) {
+            c = it.get(j);
+            if (c == a || c == b) {
+                break;
+            }
+            j++;
+        }
+
+        if (j != i) {
+            ByteBuffer v = view;
+            if (v == null) {
+                view = v = it.duplicate();
+            }
+            // Buffer's methods, the
+            // covariant ones are Java 9+
+            Buffer bf = v;
+            bf.limit(j);
+            bf.position(i);
+            alpha.join(v);
+        }
+
+        if (j < o) {
+            index = j + 1;
+            return c;
+        }
+        index = o;
+        return -1;
+    }
+
+    @Override
+    public int skip(
+        @NotNull boolean[] table
+    ) {
+        int j = index;
+        int o = offset;
+        ByteBuffer it = value;
+
+        if (it.hasArray()) {
+            int k = it.arrayOffset();
+            j = Binary.indexOf(
+                it.array(), j + k, o + k, table
+            ) - k;
+        } else {
+            while (j < o) {
+                byte c = it.get(j);
+                if (c >= 0 && table[c]) {
+                    break;
+                }
+                j++;
+            }
+        }
+
+        if (j < o) {
+            index = j + 1;
+            return it.get(j);
+        }
+        index = o;
+        return -1;
+    }
+
+    @Override
+    public void close() {
+        value = null;
+        view = null;
+        offset = 0;
+    }
+}
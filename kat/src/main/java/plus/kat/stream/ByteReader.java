@@ -18,6 +18,7 @@ package plus.kat.stream;
 import plus.kat.anno.NotNull;
 
 import plus.kat.crash.*;
+import plus.kat.kernel.*;
 
 import java.io.IOException;
 
@@ -69,6 +70,15 @@ public class ByteReader implements Reader {
         this.offset = offset;
     }
 
+    /**
+     * Returns the index of the next byte to be read
+     *
+     * @since 0.0.5
+     */
+    public int index() {
+        return index;
+    }
+
     @Override
     public boolean also() {
         return index < offset;
@@ -90,6 +100,51 @@ public class ByteReader implements Reader {
         );
     }
 
+    @Override
+    public int read(
+        @NotNull Alpha alpha, byte a, byte b
+    ) {
+        int i = index;
+        int o = offset;
+        byte[] it = value;
+
+        int j = Binary.indexOf(
+            it, i, o, a, b
+        );
+        if (j < o) {
+            alpha.join(
+                it, i, j - i
+            );
+            index = j + 1;
+            return it[j];
+        }
+
+        alpha.join(
+            it, i, o - i
+        );
+        index = o;
+        return -1;
+    }
+
+    @Override
+    public int skip(
+        @NotNull boolean[] table
+    ) {
+        int o = offset;
+        byte[] it = value;
+
+        int j = Binary.indexOf(
+            it, index, o, table
+        );
+        if (j < o) {
+            index = j + 1;
+            return it[j];
+        }
+
+        index = o;
+        return -1;
+    }
+
     @Override
     public void close() {
         value = null;
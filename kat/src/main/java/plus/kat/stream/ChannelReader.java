@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.stream;
+
+import plus.kat.anno.NotNull;
+
+import plus.kat.crash.*;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+
+import static plus.kat.kernel.Alpha.Memory.INS;
+
+/**
+ * A {@link Reader} that fills its pooled cache from a {@link ReadableByteChannel}
+ *
+ * @author kraity
+ * @since 0.0.5
+ */
+public class ChannelReader extends AbstractReader {
+
+    private ByteBuffer buffer;
+    private ReadableByteChannel value;
+
+    /**
+     * The channel is owned by this reader and closed by {@link #close()},
+     * it must be blocking, feed the bytes of a non-blocking one to a
+     * {@link plus.kat.kernel.Feeder} as they arrive instead
+     *
+     * @throws NullPointerException     If the specified {@code data} is null
+     * @throws IllegalArgumentException If the specified {@code data} is non-blocking
+     */
+    public ChannelReader(
+        @NotNull ReadableByteChannel data
+    ) {
+        if (data == null) {
+            throw new NullPointerException();
+        }
+
+        if (data instanceof SelectableChannel &&
+            !((SelectableChannel) data).isBlocking()) {
+            throw new IllegalArgumentException(
+                "Unsupported non-blocking channel, feed its bytes to a Feeder instead"
+            );
+        }
+
+        this.value = data;
+    }
+
+    @Override
+    protected int load()
+        throws IOException {
+        ByteBuffer buf = buffer;
+        if (buf == null) {
+            byte[] tmp = cache;
+            if (tmp == null) {
+                cache = tmp = alloc();
+            }
+            buffer = buf = ByteBuffer.wrap(tmp);
+        }
+
+        // Buffer's methods, the
+        // covariant ones are Java 9+
+        Buffer bf = buf;
+        bf.clear();
+        bf.limit(
+            scale(cache.length)
+        );
+
+        int n = value.read(buf);
+        if (n != 0) {
+            return n;
+        }
+
+        // switched to non-blocking,
+        // no bytes to wait for here
+        throw new ReaderCrash(
+            "Unexpectedly, the channel is non-blocking, feed its bytes to a Feeder instead"
+        );
+    }
+
+    @Override
+    public void close() {
+        try {
+            INS.join(
+                cache
+            );
+            value.close();
+        } catch (Exception e) {
+            // Nothing
+        } finally {
+            cache = null;
+            value = null;
+            buffer = null;
+            offset = -1;
+        }
+    }
+}
@@ -232,13 +232,27 @@ public interface Convert {
      */
     static int toInt(
         @NotNull byte[] it, int len, int rad, int def
+    ) {
+        return toInt(
+            it, 0, len, rad, def
+        );
+    }
+
+    /**
+     * Parses the {@code len} bytes from {@code off} as a signed decimal {@code int} or {@code def} value
+     *
+     * @param rad the radix to be used while parsing {@code byte[]}
+     * @since 0.0.5
+     */
+    static int toInt(
+        @NotNull byte[] it, int off, int len, int rad, int def
     ) {
         if (len == 0) {
             return def;
         }
 
         if (len == 1) {
-            int dig = it[0];
+            int dig = it[off];
             if (dig < 58) {
                 dig -= 48;
             } else if (dig < 91) {
@@ -253,35 +267,36 @@ public interface Convert {
             return def;
         }
 
-        byte bit = 0;
+        int bit = off;
+        int end = off + len;
         int lim = -Integer.MAX_VALUE;
         boolean neg = false;
 
-        switch (it[0]) {
+        switch (it[off]) {
             case '-': {
                 neg = true;
-                bit = 1;
+                bit++;
                 lim = Integer.MIN_VALUE;
                 break;
             }
             case '0': {
-                switch (it[1]) {
+                switch (it[off + 1]) {
                     case 'x': {
-                        bit = 2;
+                        bit += 2;
                         rad = 16;
                         break;
                     }
                     case 'b': {
-                        bit = 2;
+                        bit += 2;
                         rad = 2;
                         break;
                     }
                     default: {
-                        bit = 1;
+                        bit++;
                         rad = 8;
                     }
                 }
-                while (bit < len &&
+                while (bit < end &&
                     it[bit] == 48) bit++;
             }
         }
@@ -289,7 +304,7 @@ public interface Convert {
         int num = 0;
         int mul = lim / rad;
 
-        while (bit < len) {
+        while (bit < end) {
             int dig = it[bit++];
             if (dig < 58) {
                 dig -= 48;
@@ -409,13 +424,27 @@ public interface Convert {
      */
     static long toLong(
         @NotNull byte[] it, int len, long rad, long def
+    ) {
+        return toLong(
+            it, 0, len, rad, def
+        );
+    }
+
+    /**
+     * Parses the {@code len} bytes from {@code off} as a signed decimal {@code long} or {@code def} value
+     *
+     * @param rad radix the radix to be used while parsing {@code byte[]}
+     * @since 0.0.5
+     */
+    static long toLong(
+        @NotNull byte[] it, int off, int len, long rad, long def
     ) {
         if (len == 0) {
             return def;
         }
 
         if (len == 1) {
-            long dig = it[0];
+            long dig = it[off];
             if (dig < 58L) {
                 dig -= 48L;
             } else if (dig < 91L) {
@@ -430,35 +459,36 @@ public interface Convert {
             return def;
         }
 
-        byte bit = 0;
+        int bit = off;
+        int end = off + len;
         long lim = -Long.MAX_VALUE;
         boolean neg = false;
 
-        switch (it[0]) {
+        switch (it[off]) {
             case '-': {
                 neg = true;
-                bit = 1;
+                bit++;
                 lim = Long.MIN_VALUE;
                 break;
             }
             case '0': {
-                switch (it[1]) {
+                switch (it[off + 1]) {
                     case 'x': {
-                        bit = 2;
+                        bit += 2;
                         rad = 16L;
                         break;
                     }
                     case 'b': {
-                        bit = 2;
+                        bit += 2;
                         rad = 2L;
                         break;
                     }
                     default: {
-                        bit = 1;
+                        bit++;
                         rad = 8L;
                     }
                 }
-                while (bit < len &&
+                while (bit < end &&
                     it[bit] == 48) bit++;
             }
         }
@@ -466,7 +496,7 @@ public interface Convert {
         long num = 0L;
         long mul = lim / rad;
 
-        while (bit < len) {
+        while (bit < end) {
             long dig = it[bit++];
             if (dig < 58L) {
                 dig -= 48L;
@@ -582,7 +612,6 @@ public interface Convert {
     /**
      * Parses the {@code byte[]} as a {@code float} or {@code def} value
      */
-    @SuppressWarnings("deprecation")
     static float toFloat(
         @NotNull byte[] it, int len, float def
     ) {
@@ -607,10 +636,8 @@ public interface Convert {
         }
 
         try {
-            return Float.parseFloat(
-                new String(
-                    it, 0, 0, len
-                )
+            return Decimal.parseFloat(
+                it, len
             );
         } catch (Exception e) {
             return def;
@@ -620,16 +647,28 @@ public interface Convert {
     /**
      * Parses the {@code byte[]} as a {@code double} or {@code def} value
      */
-    @SuppressWarnings("deprecation")
     static double toDouble(
         @NotNull byte[] it, int len, double def
+    ) {
+        return toDouble(
+            it, 0, len, def
+        );
+    }
+
+    /**
+     * Parses the {@code len} bytes from {@code off} as a {@code double} or {@code def} value
+     *
+     * @since 0.0.5
+     */
+    static double toDouble(
+        @NotNull byte[] it, int off, int len, double def
     ) {
         switch (len) {
             case 0: {
                 return def;
             }
             case 1: {
-                int dig = it[0];
+                int dig = it[off];
                 if (dig < 58) {
                     dig -= 48;
                 } else if (dig < 91) {
@@ -645,10 +684,8 @@ public interface Convert {
         }
 
         try {
-            return Double.parseDouble(
-                new String(
-                    it, 0, 0, len
-                )
+            return Decimal.parseDouble(
+                it, off, len
             );
         } catch (Exception e) {
             return def;
@@ -660,15 +697,29 @@ public interface Convert {
      * {@code long}, {@code double}, or {@code def} value
      */
     @Nullable
-    @SuppressWarnings("deprecation")
     static Number toNumber(
         @NotNull byte[] it, int len, @Nullable Number def
+    ) {
+        return toNumber(
+            it, 0, len, def
+        );
+    }
+
+    /**
+     * Parses the {@code len} bytes from {@code off} as a {@code int},
+     * {@code long}, {@code double}, or {@code def} value
+     *
+     * @since 0.0.5
+     */
+    @Nullable
+    static Number toNumber(
+        @NotNull byte[] it, int off, int len, @Nullable Number def
     ) {
         if (len == 0) {
             return def;
         }
 
-        byte b = it[0];
+        byte b = it[off];
         if (b > 0x39) {
             return def;
         }
@@ -676,14 +727,14 @@ public interface Convert {
         if (b > 0x2F) {
             if (len < 10) {
                 int num = toInt(
-                    it, len, 10, -1
+                    it, off, len, 10, -1
                 );
                 if (num != -1) {
                     return num;
                 }
             } else {
                 long num = toLong(
-                    it, len, 10, -1
+                    it, off, len, 10, -1
                 );
                 if (num > Integer.MAX_VALUE) {
                     return num;
@@ -698,14 +749,14 @@ public interface Convert {
 
             if (len < 11) {
                 int num = toInt(
-                    it, len, 10, 1
+                    it, off, len, 10, 1
                 );
                 if (num != 1) {
                     return num;
                 }
             } else {
                 long num = toLong(
-                    it, len, 10, 1
+                    it, off, len, 10, 1
                 );
                 if (num < Integer.MIN_VALUE) {
                     return num;
@@ -715,8 +766,8 @@ public interface Convert {
             }
         }
 
-        int i = 1, r = 0;
-        while (i < len) {
+        int i = off + 1, end = off + len, r = 0;
+        while (i < end) {
             byte t = it[i++];
             if (t > 0x39) {
                 return def;
@@ -731,10 +782,8 @@ public interface Convert {
         }
 
         try {
-            return Double.parseDouble(
-                new String(
-                    it, 0, 0, len
-                )
+            return Decimal.parseDouble(
+                it, off, len
             );
         } catch (Exception e) {
             // Nothing
@@ -748,54 +797,67 @@ public interface Convert {
      */
     static boolean toBoolean(
         @NotNull byte[] it, int len, boolean def
+    ) {
+        return toBoolean(
+            it, 0, len, def
+        );
+    }
+
+    /**
+     * Parses the {@code len} bytes from {@code off} as a {@code boolean} or {@code def} value
+     *
+     * @since 0.0.5
+     */
+    static boolean toBoolean(
+        @NotNull byte[] it, int off, int len, boolean def
     ) {
         switch (len) {
             case 0: {
                 return def;
             }
             case 1: {
-                byte b = it[0];
+                byte b = it[off];
                 return '1' <= b && b <= '9';
             }
             case 4: {
-                byte b = it[0];
+                byte b = it[off];
                 // true
                 if (b == 't') {
-                    return it[1] == 'r'
-                        && it[2] == 'u'
-                        && it[3] == 'e';
+                    return it[off + 1] == 'r'
+                        && it[off + 2] == 'u'
+                        && it[off + 3] == 'e';
                 }
 
                 // TRUE/True
                 if (b == 'T') {
-                    byte c = it[1];
+                    byte c = it[off + 1];
                     if (c == 'R') {
-                        return it[2] == 'U'
-                            && it[3] == 'E';
+                        return it[off + 2] == 'U'
+                            && it[off + 3] == 'E';
                     }
 
                     // True
                     else if (c == 'r') {
-                        return it[2] == 'u'
-                            && it[3] == 'e';
+                        return it[off + 2] == 'u'
+                            && it[off + 3] == 'e';
                     }
 
                     return false;
                 }
 
-                return toInt(it, len, 10, 0) != 0;
+                return toInt(it, off, len, 10, 0) != 0;
             }
             case 5: {
-                byte c = it[0];
+                byte c = it[off];
                 if (c == 'f' || c == 'F') {
                     return false;
                 }
 
-                return toInt(it, len, 10, 0) != 0;
+                return toInt(it, off, len, 10, 0) != 0;
             }
         }
 
-        return toLong(it, len, 10L, 0L) != 0L;
+        return toLong(it, off, len, 10L, 0L) != 0L;
     }
 
     /**
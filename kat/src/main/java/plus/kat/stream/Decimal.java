@@ -0,0 +1,833 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.stream;
+
+import plus.kat.anno.NotNull;
+
+import java.math.BigInteger;
+
+/**
+ * Formats the float and double values to the shortest decimal that rounds
+ * back to the same value, writes the digits straight into the byte array and
+ * keeps the layout of {@link Double#toString(double)}, based on the Schubfach algorithm.
+ * Parses the decimal bytes to the float and double values without a {@link String},
+ * based on the Eisel-Lemire algorithm, and falls back to the jdk for the rare cases
+ *
+ * <pre>{@code
+ *   byte[] it = new byte[Decimal.SIZE];
+ *   int len = Decimal.write(it, 0, 0.3D); // "0.3"
+ *   len = Decimal.write(it, 0, 1.0E23D); // "1.0E23"
+ *   double num = Decimal.parseDouble(it, len); // 1.0E23
+ * }</pre>
+ *
+ * @author kraity
+ * @since 0.0.5
+ */
+public final class Decimal {
+
+    /**
+     * The maximum length of a formatted value, such as {@code -2.2250738585072014E-308}
+     */
+    public static final int SIZE = 24;
+
+    private static final int
+        K_MIN = -324, K_MAX = 292;
+
+    private static final long
+        MASK_32 = (1L << 32) - 1,
+        MASK_63 = (1L << 63) - 1;
+
+    private static final int
+        E_MIN = -348, E_MAX = 347;
+
+    private static final double[] DOUBLE = {
+        1E0, 1E1, 1E2, 1E3, 1E4, 1E5, 1E6, 1E7, 1E8, 1E9, 1E10, 1E11,
+        1E12, 1E13, 1E14, 1E15, 1E16, 1E17, 1E18, 1E19, 1E20, 1E21, 1E22
+    };
+
+    private static final float[] FLOAT = {
+        1E0F, 1E1F, 1E2F, 1E3F, 1E4F, 1E5F, 1E6F, 1E7F, 1E8F, 1E9F, 1E10F
+    };
+
+    private static final long[] POW10 = {
+        1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L,
+        1000000000L, 10000000000L, 100000000000L, 1000000000000L, 10000000000000L,
+        100000000000000L, 1000000000000000L, 10000000000000000L, 100000000000000000L,
+        1000000000000000000L
+    };
+
+    private Decimal() {
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Writes the shortest decimal of the specified double value,
+     * the array must have at least {@link #SIZE} bytes after the offset
+     *
+     * @param it  the specified array to be written
+     * @param i   the specified offset of the array
+     * @param num the specified value to be formatted
+     * @return the offset after the last byte written
+     */
+    public static int write(
+        @NotNull byte[] it, int i, double num
+    ) {
+        long bits = Double.doubleToRawLongBits(num);
+        long t = bits & ((1L << 52) - 1);
+        int bq = (int) (bits >>> 52) & 0x7FF;
+
+        if (bq == 0x7FF) {
+            return special(
+                it, i, t != 0, bits < 0
+            );
+        }
+
+        if (bits < 0) {
+            it[i++] = '-';
+        }
+
+        if (bq != 0) {
+            int mq = 1075 - bq;
+            long c = (1L << 52) | t;
+            // integers need no scaling
+            if (0 < mq && mq < 53) {
+                long f = c >> mq;
+                if (f << mq == c) {
+                    return chars(it, i, f, 0);
+                }
+            }
+            return decimal(it, i, -mq, c, 0);
+        }
+
+        if (t != 0) {
+            return t < 3 ? decimal(
+                it, i, -1074, 10 * t, -1
+            ) : decimal(
+                it, i, -1074, t, 0
+            );
+        }
+
+        return zero(it, i);
+    }
+
+    /**
+     * Writes the shortest decimal of the specified float value,
+     * the array must have at least {@link #SIZE} bytes after the offset
+     *
+     * @param it  the specified array to be written
+     * @param i   the specified offset of the array
+     * @param num the specified value to be formatted
+     * @return the offset after the last byte written
+     */
+    public static int write(
+        @NotNull byte[] it, int i, float num
+    ) {
+        int bits = Float.floatToRawIntBits(num);
+        int t = bits & ((1 << 23) - 1);
+        int bq = (bits >>> 23) & 0xFF;
+
+        if (bq == 0xFF) {
+            return special(
+                it, i, t != 0, bits < 0
+            );
+        }
+
+        if (bits < 0) {
+            it[i++] = '-';
+        }
+
+        if (bq != 0) {
+            int mq = 150 - bq;
+            int c = (1 << 23) | t;
+            // integers need no scaling
+            if (0 < mq && mq < 24) {
+                int f = c >> mq;
+                if (f << mq == c) {
+                    return chars(it, i, f, 0);
+                }
+            }
+            return decimal(it, i, -mq, c, 0);
+        }
+
+        if (t != 0) {
+            return t < 8 ? decimal(
+                it, i, -149, 10 * t, -1
+            ) : decimal(
+                it, i, -149, t, 0
+            );
+        }
+
+        return zero(it, i);
+    }
+
+    /**
+     * Parses the {@code UTF8} {@code byte[]} as a {@code double}, the same as
+     * {@link Double#parseDouble(String)}, but the plain decimals such as {@code -12.5E-3}
+     * of at most 19 significant digits are parsed without creating a {@link String}
+     *
+     * @param it  the specified array to be parsed
+     * @param len the specified length of the array
+     * @throws NumberFormatException If the bytes is not a parsable double
+     */
+    public static double parseDouble(
+        @NotNull byte[] it, int len
+    ) {
+        return parseDouble(
+            it, 0, len
+        );
+    }
+
+    /**
+     * Parses the {@code len} bytes from {@code off} as a {@code double}
+     *
+     * @param it  the specified array to be parsed
+     * @param off the specified offset of the array
+     * @param len the specified length to be parsed
+     * @throws NumberFormatException If the bytes is not a parsable double
+     * @see #parseDouble(byte[], int)
+     */
+    @SuppressWarnings("deprecation")
+    public static double parseDouble(
+        @NotNull byte[] it, int off, int len
+    ) {
+        long bits = parse(
+            it, off, len, false
+        );
+        if (bits != -1) {
+            return Double.longBitsToDouble(bits);
+        }
+        return Double.parseDouble(
+            new String(it, 0, off, len)
+        );
+    }
+
+    /**
+     * Parses the {@code UTF8} {@code byte[]} as a {@code float}, the same as
+     * {@link Float#parseFloat(String)}, but the plain decimals such as {@code -12.5E-3}
+     * of at most 19 significant digits are parsed without creating a {@link String}
+     *
+     * @param it  the specified array to be parsed
+     * @param len the specified length of the array
+     * @throws NumberFormatException If the bytes is not a parsable float
+     */
+    @SuppressWarnings("deprecation")
+    public static float parseFloat(
+        @NotNull byte[] it, int len
+    ) {
+        long bits = parse(
+            it, 0, len, true
+        );
+        if (bits != -1) {
+            return Float.intBitsToFloat((int) bits);
+        }
+        return Float.parseFloat(
+            new String(it, 0, 0, len)
+        );
+    }
+
+    /**
+     * Returns the bits of the parsed double or float, or {@code -1} if the bytes is
+     * not a plain decimal, has more than 19 significant digits, or is too close to call
+     */
+    private static long parse(
+        byte[] it, int off, int len, boolean single
+    ) {
+        int i = off;
+        boolean neg = false;
+        len += off;
+        if (i != len) {
+            byte b = it[i];
+            if (b == '-') {
+                i++;
+                neg = true;
+            } else if (b == '+') {
+                i++;
+            }
+        }
+
+        // unsigned, up to 19 digits
+        long man = 0;
+        int e = 0, n = 0;
+        boolean digit = false;
+
+        // integer part
+        for (; i < len; i++) {
+            int d = it[i] - '0';
+            if (d < 0 || d > 9) {
+                break;
+            }
+            digit = true;
+            if (man != 0 || d != 0) {
+                if (++n > 19) {
+                    return -1;
+                }
+                man = man * 10 + d;
+            }
+        }
+
+        // fraction part
+        if (i < len && it[i] == '.') {
+            for (i++; i < len; i++) {
+                int d = it[i] - '0';
+                if (d < 0 || d > 9) {
+                    break;
+                }
+                e--;
+                digit = true;
+                if (man != 0 || d != 0) {
+                    if (++n > 19) {
+                        return -1;
+                    }
+                    man = man * 10 + d;
+                }
+            }
+        }
+
+        if (!digit) {
+            return -1;
+        }
+
+        // exponent part
+        if (i < len && (it[i] | 0x20) == 'e') {
+            if (++i == len) {
+                return -1;
+            }
+            boolean minus = false;
+            byte b = it[i];
+            if (b == '-') {
+                i++;
+                minus = true;
+            } else if (b == '+') {
+                i++;
+            }
+
+            int x = 0;
+            boolean any = false;
+            for (; i < len; i++) {
+                int d = it[i] - '0';
+                if (d < 0 || d > 9) {
+                    break;
+                }
+                any = true;
+                if (x < 100000) {
+                    x = x * 10 + d;
+                }
+            }
+            if (!any) {
+                return -1;
+            }
+            e += minus ? -x : x;
+        }
+
+        // such as the suffix or whitespace
+        if (i != len) {
+            return -1;
+        }
+
+        long bits;
+        if (single) {
+            if (man == 0) {
+                bits = 0;
+            } else if (-10 <= e && e <= 10 &&
+                man >= 0 && man <= 1L << 24) {
+                // both are exact, so only rounded once
+                float f = (float) man;
+                if (e < 0) {
+                    f = f / FLOAT[-e];
+                } else {
+                    f = f * FLOAT[e];
+                }
+                bits = Float.floatToRawIntBits(f);
+            } else {
+                bits = lemire(man, e, 23, 127);
+                if (bits == -1) {
+                    return -1;
+                }
+            }
+            return neg ? bits | 1L << 31 : bits;
+        } else {
+            if (man == 0) {
+                bits = 0;
+            } else if (-22 <= e && e <= 22 &&
+                man >= 0 && man <= 1L << 53) {
+                // both are exact, so only rounded once
+                double d = (double) man;
+                if (e < 0) {
+                    d = d / DOUBLE[-e];
+                } else {
+                    d = d * DOUBLE[e];
+                }
+                bits = Double.doubleToRawLongBits(d);
+            } else {
+                bits = lemire(man, e, 52, 1023);
+                if (bits == -1) {
+                    return -1;
+                }
+            }
+            return neg ? bits | 1L << 63 : bits;
+        }
+    }
+
+    /**
+     * Returns the bits of {@code man * 10^e} rounded to nearest even with the specified
+     * width of mantissa and bias of exponent, or {@code -1} if it can't be decided here,
+     * which includes the subnormals and the overflows
+     */
+    private static long lemire(
+        long man, int e, int width, int bias
+    ) {
+        if (e < E_MIN) {
+            return 0;
+        }
+        if (e > E_MAX) {
+            return -1;
+        }
+
+        int clz = Long.numberOfLeadingZeros(man);
+        man <<= clz;
+        long exp2 = (217706L * e >> 16) + 64 + bias - clz;
+
+        int n = (e - E_MIN) << 1;
+        long hi = Power.P[n];
+        long lo = Power.P[n + 1];
+
+        // the bits below the mantissa, the rounding bit and the leading bit
+        int shift = 61 - width;
+        long mask = (1L << shift) - 1;
+
+        long xHi = unsignedMultiplyHigh(man, hi);
+        long xLo = man * hi;
+
+        // wider approximation
+        if ((xHi & mask) == mask &&
+            Long.compareUnsigned(xLo + man, man) < 0) {
+            long yHi = unsignedMultiplyHigh(man, lo);
+            long yLo = man * lo;
+            long mHi = xHi, mLo = xLo + yHi;
+            if (Long.compareUnsigned(mLo, xLo) < 0) {
+                mHi++;
+            }
+            if ((mHi & mask) == mask && mLo + 1 == 0 &&
+                Long.compareUnsigned(yLo + man, man) < 0) {
+                return -1;
+            }
+            xHi = mHi;
+            xLo = mLo;
+        }
+
+        long msb = xHi >>> 63;
+        long m = xHi >>> (msb + shift);
+        exp2 -= 1 ^ msb;
+
+        // half-way ambiguity
+        if (xLo == 0 && (xHi & mask) == 0 && (m & 3) == 1) {
+            return -1;
+        }
+
+        m += m & 1;
+        m >>>= 1;
+        if (m >>> (width + 1) != 0) {
+            m >>>= 1;
+            exp2++;
+        }
+
+        // subnormal or infinite
+        if (exp2 < 1 || exp2 >= (bias << 1) + 1) {
+            return -1;
+        }
+
+        return exp2 << width | m & ((1L << width) - 1);
+    }
+
+    /**
+     * Computes the shortest decimal in the rounding interval of {@code c * 2^q}
+     */
+    private static int decimal(
+        byte[] it, int i, int q, long c, int dk
+    ) {
+        int out = (int) c & 1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != 1L << 52 || q == -1074) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+
+        int n = (k - K_MIN) << 1;
+        long g1 = Table.G[n];
+        long g0 = Table.G[n + 1];
+
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            long sp10 = 10 * multiplyHigh(
+                s, 115_292_150_460_684_698L << 4
+            );
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return chars(
+                    it, i, upin ? sp10 : tp10, k
+                );
+            }
+        }
+
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return chars(
+                it, i, uin ? s : t, k + dk
+            );
+        }
+
+        long cmp = vb - (s + t << 1);
+        return chars(
+            it, i, cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk
+        );
+    }
+
+    /**
+     * Computes the shortest decimal in the rounding interval of {@code c * 2^q}
+     */
+    private static int decimal(
+        byte[] it, int i, int q, int c, int dk
+    ) {
+        int out = c & 1;
+        long cb = (long) c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != 1 << 23 || q == -149) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 33;
+
+        long g = Table.G[(k - K_MIN) << 1] + 1;
+
+        int vb = rop(g, cb << h);
+        int vbl = rop(g, cbl << h);
+        int vbr = rop(g, cbr << h);
+
+        int s = vb >> 2;
+        if (s >= 100) {
+            int sp10 = 10 * (int) (s * 1_717_986_919L >>> 34);
+            int tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return chars(
+                    it, i, upin ? sp10 : tp10, k
+                );
+            }
+        }
+
+        int t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return chars(
+                it, i, uin ? s : t, k + dk
+            );
+        }
+
+        int cmp = vb - (s + t << 1);
+        return chars(
+            it, i, cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk
+        );
+    }
+
+    /**
+     * Writes {@code f * 10^e} in the layout of {@link Double#toString(double)}
+     */
+    private static int chars(
+        byte[] it, int i, long f, int e
+    ) {
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+
+        int n = 1;
+        while (n < 19 &&
+            f >= POW10[n]) {
+            n++;
+        }
+
+        // exponent of the leading digit
+        int x = n + e - 1;
+        if (0 <= x && x < 7) {
+            if (n <= x + 1) {
+                i = digits(it, i, f, n);
+                for (int z = x + 1 - n; z > 0; z--) {
+                    it[i++] = '0';
+                }
+                it[i++] = '.';
+                it[i++] = '0';
+                return i;
+            }
+            digits(it, i + 1, f, n);
+            for (int j = 0; j <= x; j++) {
+                it[i + j] = it[i + j + 1];
+            }
+            it[i + x + 1] = '.';
+            return i + n + 1;
+        }
+
+        if (-3 <= x && x < 0) {
+            it[i++] = '0';
+            it[i++] = '.';
+            for (int z = -x - 1; z > 0; z--) {
+                it[i++] = '0';
+            }
+            return digits(it, i, f, n);
+        }
+
+        digits(it, i + 1, f, n);
+        it[i] = it[i + 1];
+        it[i + 1] = '.';
+        if (n == 1) {
+            it[i + 2] = '0';
+            i += 3;
+        } else {
+            i += n + 1;
+        }
+
+        it[i++] = 'E';
+        if (x < 0) {
+            it[i++] = '-';
+            x = -x;
+        }
+        if (x >= 100) {
+            it[i++] = (byte) ('0' + x / 100);
+            x %= 100;
+            it[i++] = (byte) ('0' + x / 10);
+        } else if (x >= 10) {
+            it[i++] = (byte) ('0' + x / 10);
+        }
+        it[i++] = (byte) ('0' + x % 10);
+        return i;
+    }
+
+    /**
+     * Writes the {@code n} digits of {@code f} from the offset
+     */
+    private static int digits(
+        byte[] it, int i, long f, int n
+    ) {
+        int e = i + n;
+        while (--n >= 0) {
+            long q = f / 10;
+            it[i + n] = (byte) ('0' + (int) (f - q * 10));
+            f = q;
+        }
+        return e;
+    }
+
+    private static int zero(
+        byte[] it, int i
+    ) {
+        it[i++] = '0';
+        it[i++] = '.';
+        it[i++] = '0';
+        return i;
+    }
+
+    private static int special(
+        byte[] it, int i, boolean nan, boolean negative
+    ) {
+        byte[] src;
+        if (nan) {
+            src = NAN;
+        } else {
+            if (negative) {
+                it[i++] = '-';
+            }
+            src = INFINITY;
+        }
+        System.arraycopy(
+            src, 0, it, i, src.length
+        );
+        return i + src.length;
+    }
+
+    private static final byte[]
+        NAN = {'N', 'a', 'N'},
+        INFINITY = {'I', 'n', 'f', 'i', 'n', 'i', 't', 'y'};
+
+    /**
+     * Returns {@code floor(q * log10(2))}
+     */
+    private static int flog10pow2(int q) {
+        return (int) (q * 661_971_961_083L >> 41);
+    }
+
+    /**
+     * Returns {@code floor(log10(3/4 * 2^q))}
+     */
+    private static int flog10threeQuartersPow2(int q) {
+        return (int) (q * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    /**
+     * Returns {@code floor(e * log2(10))}
+     */
+    private static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+
+    /**
+     * Returns the rounded-to-odd {@code g * cp / 2^127}
+     */
+    private static long rop(
+        long g1, long g0, long cp
+    ) {
+        long x1 = multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /**
+     * Returns the rounded-to-odd {@code g * cp / 2^95}
+     */
+    private static int rop(
+        long g, long cp
+    ) {
+        long x1 = multiplyHigh(g, cp);
+        long vbp = x1 >>> 31;
+        return (int) (vbp | (x1 & MASK_32) + MASK_32 >>> 32);
+    }
+
+    /**
+     * Returns the high 64 bits of the 128-bit product, as {@code Math.multiplyHigh} of Java 9
+     */
+    private static long multiplyHigh(
+        long x, long y
+    ) {
+        long x1 = x >> 32;
+        long x2 = x & 0xFFFFFFFFL;
+        long y1 = y >> 32;
+        long y2 = y & 0xFFFFFFFFL;
+
+        long z2 = x2 * y2;
+        long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & 0xFFFFFFFFL;
+        long z0 = t >> 32;
+        z1 += x2 * y1;
+
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    /**
+     * Returns the high 64 bits of the unsigned 128-bit product
+     */
+    private static long unsignedMultiplyHigh(
+        long x, long y
+    ) {
+        return multiplyHigh(x, y) + (x >> 63 & y) + (y >> 63 & x);
+    }
+
+    /**
+     * For each k in [K_MIN, K_MAX], let {@code 10^-k = b * 2^r} with {@code 2^125 <= b < 2^126}
+     * and {@code g = floor(b) + 1}, then the pair of {@code g >> 63} and {@code g & (2^63 - 1)}.
+     * It is built once on first use rather than holding thousands of literals
+     *
+     * @author kraity
+     * @since 0.0.5
+     */
+    static final class Table {
+
+        static final long[] G;
+
+        static {
+            long[] g = new long[(K_MAX - K_MIN + 1) * 2];
+            BigInteger ten = BigInteger.TEN;
+            BigInteger mask = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+
+            for (int k = K_MIN; k <= K_MAX; k++) {
+                BigInteger b;
+                if (k <= 0) {
+                    BigInteger p = ten.pow(-k);
+                    int r = p.bitLength() - 126;
+                    b = r >= 0 ? p.shiftRight(r) : p.shiftLeft(-r);
+                } else {
+                    BigInteger p = ten.pow(k);
+                    b = BigInteger.ONE.shiftLeft(
+                        125 + p.bitLength()
+                    ).divide(p);
+                }
+                b = b.add(BigInteger.ONE);
+                int n = (k - K_MIN) << 1;
+                g[n] = b.shiftRight(63).longValue();
+                g[n + 1] = b.and(mask).longValue();
+            }
+            G = g;
+        }
+    }
+
+    /**
+     * For each e in [E_MIN, E_MAX], the high and low 64 bits of the 128-bit
+     * mantissa of {@code 10^e} rounded down, with the highest bit set
+     *
+     * @author kraity
+     * @since 0.0.5
+     */
+    static final class Power {
+
+        static final long[] P;
+
+        static {
+            long[] p = new long[(E_MAX - E_MIN + 1) * 2];
+            BigInteger ten = BigInteger.TEN;
+            BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+            for (int e = E_MIN; e <= E_MAX; e++) {
+                BigInteger b;
+                if (e < 0) {
+                    BigInteger d = ten.pow(-e);
+                    b = BigInteger.ONE.shiftLeft(
+                        127 + d.bitLength()
+                    ).divide(d);
+                } else {
+                    b = ten.pow(e);
+                    int r = b.bitLength() - 128;
+                    b = r >= 0 ? b.shiftRight(r) : b.shiftLeft(-r);
+                }
+                int n = (e - E_MIN) << 1;
+                p[n] = b.shiftRight(64).longValue();
+                p[n + 1] = b.and(mask).longValue();
+            }
+            P = p;
+        }
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.stream;
+
+import plus.kat.anno.NotNull;
+
+import plus.kat.crash.*;
+import plus.kat.kernel.*;
+import plus.kat.utils.*;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static plus.kat.kernel.Alpha.Memory;
+
+/**
+ * A {@link Reader} that reads a file straight from a read-only
+ * mapping, files over the window size are mapped one window at a time
+ *
+ * @author kraity
+ * @since 0.0.5
+ */
+public class MappedByteReader implements Reader {
+
+    /**
+     * Files at least this size are mapped by {@link #of(Path)}
+     */
+    public static final long THRESHOLD;
+
+    /**
+     * The size of each mapped window, at most {@link Integer#MAX_VALUE}
+     */
+    public static final long WINDOW;
+
+    static {
+        THRESHOLD = Config.get(
+            "kat.mapped.threshold", 1024 * 1024L
+        );
+        WINDOW = Math.min(
+            Integer.MAX_VALUE, Math.max(
+                4096L, Config.get(
+                    "kat.mapped.window", 256 * 1024 * 1024L
+                )
+            )
+        );
+    }
+
+    private long index;
+    private final long size;
+    private final long window;
+
+    private byte[] cache;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    /**
+     * @throws IOException          If an I/O error occurs
+     * @throws NullPointerException If the specified {@code path} is null
+     */
+    public MappedByteReader(
+        @NotNull Path path
+    ) throws IOException {
+        this(
+            FileChannel.open(
+                path, StandardOpenOption.READ
+            )
+        );
+    }
+
+    /**
+     * The channel is owned by this reader and closed by {@link #close()}
+     *
+     * @throws IOException          If an I/O error occurs
+     * @throws NullPointerException If the specified {@code channel} is null
+     */
+    public MappedByteReader(
+        @NotNull FileChannel channel
+    ) throws IOException {
+        this(channel, WINDOW);
+    }
+
+    /**
+     * The channel is owned by this reader and closed by {@link #close()}
+     *
+     * @param window the size of each mapped window
+     * @throws IOException              If an I/O error occurs
+     * @throws NullPointerException     If the specified {@code channel} is null
+     * @throws IllegalArgumentException If the window is not in {@code (0, Integer.MAX_VALUE]}
+     */
+    public MappedByteReader(
+        @NotNull FileChannel channel, long window
+    ) throws IOException {
+        if (channel == null) {
+            throw new NullPointerException();
+        }
+
+        if (window <= 0 ||
+            window > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "The specified window(" + window + ") is out of range"
+            );
+        }
+
+        this.window = window;
+        this.channel = channel;
+        this.size = channel.size();
+    }
+
+    /**
+     * Maps the next window, unmapping the current one
+     *
+     * @throws IOException If this has been closed or I/O error occurs
+     */
+    protected boolean load() throws IOException {
+        long i = index;
+        if (i >= size) {
+            return false;
+        }
+
+        FileChannel ch = channel;
+        if (ch == null) {
+            throw new ReaderCrash(
+                "Unexpectedly, the reader has been closed"
+            );
+        }
+
+        unmap(buffer);
+        long l = Math.min(
+            window, size - i
+        );
+        buffer = ch.map(
+            FileChannel.MapMode.READ_ONLY, i, l
+        );
+        index = i + l;
+        return true;
+    }
+
+    @Override
+    public boolean also() throws IOException {
+        MappedByteBuffer b = buffer;
+        if (b != null &&
+            b.hasRemaining()) {
+            return true;
+        }
+        return load();
+    }
+
+    @Override
+    public byte read() {
+        return buffer.get();
+    }
+
+    @Override
+    public byte next() throws IOException {
+        MappedByteBuffer b = buffer;
+        if (b != null &&
+            b.hasRemaining()) {
+            return b.get();
+        }
+
+        if (load()) {
+            return buffer.get();
+        }
+
+        throw new ReaderCrash(
+            "Unexpectedly, no readable byte"
+        );
+    }
+
+    @Override
+    public int read(
+        @NotNull Alpha alpha, byte a, byte b
+    ) throws IOException {
+        byte[] tmp = chunk();
+        while (also()) {
+            // Buffer's methods, the
+            // covariant ones are Java 9+
+            Buffer it = buffer;
+            int l = Math.min(
+                tmp.length, it.remaining()
+            );
+            buffer.get(
+                tmp, 0, l
+            );
+
+            int j = Binary.indexOf(
+                tmp, 0, l, a, b
+            );
+            alpha.join(
+                tmp, 0, j
+            );
+            if (j < l) {
+                it.position(
+                    it.position() - l + j + 1
+                );
+                return tmp[j];
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int skip(
+        @NotNull boolean[] table
+    ) throws IOException {
+        byte[] tmp = chunk();
+        while (also()) {
+            // Buffer's methods, the
+            // covariant ones are Java 9+
+            Buffer it = buffer;
+            int l = Math.min(
+                tmp.length, it.remaining()
+            );
+            buffer.get(
+                tmp, 0, l
+            );
+
+            int j = Binary.indexOf(
+                tmp, 0, l, table
+            );
+            if (j < l) {
+                it.position(
+                    it.position() - l + j + 1
+                );
+                return tmp[j];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the chunk that the mapped window is copied into
+     * in bulk, so that it is scanned as an array and not byte by byte
+     */
+    private byte[] chunk() {
+        byte[] it = cache;
+        if (it == null) {
+            cache = it = Memory.INS.alloc();
+        }
+        return it;
+    }
+
+    @Override
+    public void close() {
+        try {
+            unmap(buffer);
+            FileChannel ch = channel;
+            if (ch != null) {
+                ch.close();
+            }
+        } catch (Exception e) {
+            // Nothing
+        } finally {
+            Memory.INS.join(cache);
+            cache = null;
+            buffer = null;
+            channel = null;
+            index = size;
+        }
+    }
+
+    /**
+     * Returns a {@link MappedByteReader} if the file size
+     * reaches {@link #THRESHOLD}, otherwise an {@link InputStreamReader}
+     *
+     * @throws IOException          If an I/O error occurs
+     * @throws NullPointerException If the specified {@code path} is null
+     */
+    @NotNull
+    public static Reader of(
+        @NotNull Path path
+    ) throws IOException {
+        if (Files.isRegularFile(path) &&
+            Files.size(path) >= THRESHOLD) {
+            return new MappedByteReader(path);
+        }
+
+        return new InputStreamReader(
+            Files.newInputStream(path)
+        );
+    }
+
+    private static Object UNSAFE;
+    private static Method CLEANER;
+
+    static {
+        try {
+            Class<?> c = Class.forName("sun.misc.Unsafe");
+            Method m = c.getMethod(
+                "invokeCleaner", ByteBuffer.class
+            );
+            Field f = c.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            UNSAFE = f.get(null);
+            CLEANER = m;
+        } catch (Throwable e) {
+            // Java 8, or not available
+        }
+    }
+
+    /**
+     * Releases the mapping now instead of waiting for the collector,
+     * the buffer and its views must not be used afterwards
+     *
+     * @param buf the specified buffer, may be null
+     */
+    public static void unmap(
+        MappedByteBuffer buf
+    ) {
+        if (buf == null) {
+            return;
+        }
+
+        try {
+            Method m = CLEANER;
+            if (m != null) {
+                m.invoke(UNSAFE, buf);
+            } else {
+                Object cleaner = buf.getClass()
+                    .getMethod("cleaner")
+                    .invoke(buf);
+                if (cleaner != null) {
+                    cleaner.getClass()
+                        .getMethod("clean")
+                        .invoke(cleaner);
+                }
+            }
+        } catch (Throwable e) {
+            // Nothing, left to the collector
+        }
+    }
+}
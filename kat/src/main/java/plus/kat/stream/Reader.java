@@ -15,7 +15,10 @@
  */
 package plus.kat.stream;
 
+import plus.kat.anno.NotNull;
+
 import plus.kat.crash.*;
+import plus.kat.kernel.*;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -55,6 +58,75 @@ public interface Reader extends Closeable {
         );
     }
 
+    /**
+     * Copies bytes into the specified {@link Alpha} until one of the two
+     * delimiters is read, the delimiter is consumed but not copied
+     *
+     * <pre>{@code
+     *   Reader reader = ...
+     *   int b = reader.read(value, (byte) '\\', (byte) '"');
+     * }</pre>
+     *
+     * @param alpha the specified alpha to be joined
+     * @param a     the specified ascii delimiter
+     * @param b     the specified ascii delimiter
+     * @return the delimiter read, or {@code -1} if the readable bytes at hand
+     * have no delimiter, a push reader may have more later, see {@link #also()}
+     * @throws IOException If this has been closed or I/O error occurs
+     * @since 0.0.5
+     */
+    default int read(
+        @NotNull Alpha alpha, byte a, byte b
+    ) throws IOException {
+        while (also()) {
+            byte c = read();
+            if (c == a || c == b) {
+                return c;
+            }
+            alpha.join(c);
+        }
+        return -1;
+    }
+
+    /**
+     * Skips bytes until a delimiter of the specified
+     * table is read, the skipped bytes are not copied
+     *
+     * <pre>{@code
+     *   Reader reader = ...
+     *   int b = reader.skip(Binary.table('"', '\\'));
+     * }</pre>
+     *
+     * @param table the specified table of ascii delimiters
+     * @return the delimiter read, or {@code -1} if the readable bytes at hand
+     * have no delimiter, a push reader may have more later, see {@link #also()}
+     * @throws IOException If this has been closed or I/O error occurs
+     * @see Binary#table(char...)
+     * @since 0.0.5
+     */
+    default int skip(
+        @NotNull boolean[] table
+    ) throws IOException {
+        while (also()) {
+            byte c = read();
+            if (c >= 0 && table[c]) {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Marks the current position as resumable, the solver calls it when
+     * every proxy call before is done and its own state holds the rest,
+     * such as the chains, the nesting or the skip depth
+     *
+     * @since 0.0.5
+     */
+    default void mark() {
+        // Nothing
+    }
+
     /**
      * Close this {@link Reader}
      */
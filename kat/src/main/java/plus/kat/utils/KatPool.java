@@ -0,0 +1,308 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.utils;
+
+import plus.kat.anno.NotNull;
+import plus.kat.anno.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A lock-free variant of {@link KatCluster}, idle instances are exchanged
+ * through CAS slots and no monitor is taken on the fast path, the slots
+ * are its only storage, so it doesn't extend the synchronized {@link KatCluster}
+ *
+ * @author kraity
+ * @since 0.0.5
+ */
+public abstract class KatPool<T> {
+    /**
+     * Overflow policies, applied once
+     * all {@code size} instances are borrowed
+     */
+    public static final int DISCARD = 0;
+    public static final int SPIN = 1;
+    public static final int PARK = 2;
+
+    protected final int policy;
+    protected final int spins;
+    protected final long timeout;
+
+    private final AtomicInteger alive;
+    private final AtomicInteger waiter;
+    private final AtomicReferenceArray<T> slots;
+
+    private final ReentrantLock lock;
+    private final Condition idle;
+
+    /**
+     * @param size   the specified size of pool
+     * @param policy the specified overflow policy
+     */
+    public KatPool(
+        int size, int policy
+    ) {
+        this(size, policy, 64, 1000);
+    }
+
+    /**
+     * @param size    the specified size of pool
+     * @param policy  the specified overflow policy
+     * @param spins   the maximum number of spins of {@link #SPIN}
+     * @param timeout the maximum milliseconds to park of {@link #PARK}
+     */
+    public KatPool(
+        int size,
+        int policy,
+        int spins,
+        long timeout
+    ) {
+        this.policy = policy;
+        this.spins = spins;
+        this.timeout = TimeUnit.MILLISECONDS.toNanos(timeout);
+        this.alive = new AtomicInteger();
+        this.waiter = new AtomicInteger();
+        this.slots = new AtomicReferenceArray<>(
+            size > 0 ? size : 1
+        );
+        if (policy != PARK) {
+            lock = null;
+            idle = null;
+        } else {
+            lock = new ReentrantLock();
+            idle = lock.newCondition();
+        }
+    }
+
+    /**
+     * Returns a new instance
+     *
+     * @return {@link T}, it is not null
+     */
+    @NotNull
+    public abstract T make();
+
+    /**
+     * Releases the {@code target}
+     *
+     * @param target the specified {@link T}
+     */
+    public abstract boolean stop(
+        @NotNull T target
+    );
+
+    /**
+     * Verify lock the {@code target}
+     *
+     * @param target the specified {@link T}
+     */
+    public abstract boolean lock(
+        @NotNull T target
+    );
+
+    /**
+     * Verify unlock the {@code target}
+     *
+     * @param target the specified {@link T}
+     */
+    public abstract boolean unlock(
+        @NotNull T target
+    );
+
+    /**
+     * Returns the overflow policy of the specified name
+     *
+     * @param name the specified name, such as {@code discard}, {@code spin}, {@code park}
+     * @param def  the default policy if the name is unknown
+     */
+    public static int policy(
+        @Nullable String name, int def
+    ) {
+        if (name != null) {
+            switch (name.toLowerCase()) {
+                case "discard": {
+                    return DISCARD;
+                }
+                case "spin": {
+                    return SPIN;
+                }
+                case "park": {
+                    return PARK;
+                }
+            }
+        }
+        return def;
+    }
+
+    /**
+     * Returns a borrowed instance
+     *
+     * @return {@link T}, it is not null
+     */
+    @NotNull
+    public T borrow() {
+        T f = poll();
+        if (f != null) {
+            return f;
+        }
+
+        int n, max = slots.length();
+        while ((n = alive.get()) < max) {
+            if (alive.compareAndSet(n, n + 1)) {
+                return create();
+            }
+        }
+
+        switch (policy) {
+            case SPIN: {
+                for (int i = 0; i < spins; i++) {
+                    Thread.yield();
+                    if ((f = poll()) != null) {
+                        return f;
+                    }
+                }
+                break;
+            }
+            case PARK: {
+                if ((f = park()) != null) {
+                    return f;
+                }
+            }
+        }
+
+        return create();
+    }
+
+    /**
+     * Makes and locks a new instance, so that
+     * {@link #retreat(Object)} unlocks and resets it as a pooled one
+     */
+    @NotNull
+    private T create() {
+        T f = make();
+        lock(f);
+        return f;
+    }
+
+    /**
+     * Returns a specified instance
+     *
+     * @param it the specified {@link T}, maybe is null
+     */
+    public boolean retreat(
+        @Nullable T it
+    ) {
+        if (it == null) {
+            return false;
+        }
+
+        if (unlock(it) && offer(it)) {
+            if (waiter.get() != 0) {
+                lock.lock();
+                try {
+                    idle.signal();
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return true;
+        }
+
+        return stop(it);
+    }
+
+    /**
+     * Close this {@link KatPool}
+     */
+    public void close() {
+        alive.set(0);
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    /**
+     * Returns the slot to start probing for the current thread
+     */
+    private int start() {
+        int h = Thread.currentThread().hashCode();
+        return ((h ^ (h >>> 16)) & 0x7FFFFFFF) % slots.length();
+    }
+
+    /**
+     * Takes and locks an idle instance, or returns null
+     */
+    @Nullable
+    private T poll() {
+        int l = slots.length();
+        for (int i = 0, k = start(); i < l; i++) {
+            T f = slots.get(k);
+            if (f != null &&
+                slots.compareAndSet(k, f, null) && lock(f)) {
+                return f;
+            }
+            if (++k == l) {
+                k = 0;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Puts the instance into an empty slot
+     */
+    private boolean offer(
+        @NotNull T it
+    ) {
+        int l = slots.length();
+        for (int i = 0, k = start(); i < l; i++) {
+            if (slots.get(k) == null &&
+                slots.compareAndSet(k, null, it)) {
+                return true;
+            }
+            if (++k == l) {
+                k = 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Waits for an instance to be returned, up to {@code timeout}
+     */
+    @Nullable
+    private T park() {
+        T f = null;
+        lock.lock();
+        waiter.incrementAndGet();
+        try {
+            long nanos = timeout;
+            while ((f = poll()) == null && nanos > 0L) {
+                nanos = idle.awaitNanos(nanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waiter.decrementAndGet();
+            lock.unlock();
+        }
+        return f;
+    }
+}
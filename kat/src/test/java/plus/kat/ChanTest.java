@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 
 import plus.kat.kernel.Chain;
+import plus.kat.spare.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -103,4 +104,42 @@ public class ChanTest {
         // Chan has been closed
         assertArrayEquals(Chain.EMPTY_BYTES, chan.toBytes());
     }
+
+    @Test
+    public void test_label() throws IOException {
+        String[] names = {
+            "id", "a\"b<c>\\d", "名字"
+        };
+        long[] flags = {
+            0, Flag.PRETTY, Flag.UNICODE
+        };
+
+        for (long f : flags) {
+            for (String name : names) {
+                Label label = new Label(name);
+                Chan[][] list = {
+                    {new Kat(f), new Kat(f)},
+                    {new Json(f), new Json(f)},
+                    {new Doc(f), new Doc(f)}
+                };
+                for (Chan[] c : list) {
+                    c[0].set("M", it -> {
+                        it.set(name, StringSpare.INSTANCE, "kraity");
+                        it.set(name, IntegerSpare.INSTANCE, 1024);
+                        it.set(name, StringSpare.INSTANCE, null);
+                    });
+                    c[1].set("M", it -> {
+                        it.put(label, StringSpare.INSTANCE, "kraity");
+                        it.put(label, IntegerSpare.INSTANCE, 1024);
+                        it.put(label, StringSpare.INSTANCE, null);
+                    });
+                    assertEquals(
+                        c[0].toString(), c[1].toString()
+                    );
+                    c[0].close();
+                    c[1].close();
+                }
+            }
+        }
+    }
 }
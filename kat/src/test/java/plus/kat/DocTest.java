@@ -59,6 +59,22 @@ public class DocTest {
         assertEquals("kraity", user.name);
     }
 
+    @Test
+    public void test_down_skip() {
+        Supplier supplier = Supplier.ins();
+
+        User user = supplier.down(
+            User.class, new Event<>(
+                "<User><id>1</id><extra a=\"/>\"><x><y>1</y><z/></x><w>\"</w></extra><name>kraity</name><blocked>true</blocked></User>"
+            )
+        );
+
+        assertNotNull(user);
+        assertEquals(1, user.id);
+        assertTrue(user.blocked);
+        assertEquals("kraity", user.name);
+    }
+
     @Test
     public void test_markup() {
         lookup(User.class);
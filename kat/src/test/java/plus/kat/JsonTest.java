@@ -63,6 +63,22 @@ public class JsonTest {
     }
 
 
+    @Test
+    public void test_parse_skip() {
+        Supplier supplier = Supplier.ins();
+
+        User user = supplier.parse(
+            User.class, Event.latin(
+                "{\"id\":1,\"extra\":{\"a\":\"}]\\\"{[\",\"b\":[{},[],'\\']'],\"c\":{\"d\":null}},\"name\":\"kraity\",\"tags\":[\"[\",{\"k\":\"}\"}],\"disabled\":true}"
+            )
+        );
+
+        assertNotNull(user);
+        assertEquals(1, user.id);
+        assertTrue(user.blocked);
+        assertEquals("kraity", user.name);
+    }
+
     @Test
     public void test_parse1() {
         Supplier supplier = Supplier.ins();
@@ -56,6 +56,20 @@ public class KatTest {
         assertEquals(string, Kat.pretty(extra));
     }
 
+    @Test
+    public void test_parse_skip() {
+        User user = Kat.decode(
+            User.class, new Event<>(
+                "{:id(1):extra{:a(}{^)#):b{:c{}:d(^^)}#{ comment }#}:name(kraity):tags{(a)({)}:blocked(1)}"
+            )
+        );
+
+        assertNotNull(user);
+        assertEquals(1, user.id);
+        assertTrue(user.blocked);
+        assertEquals("kraity", user.name);
+    }
+
     @Test
     public void test_encode1() {
         assertEquals(
@@ -0,0 +1,141 @@
+package plus.kat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyNodeTest {
+
+    static final String JSON = "{\"uid\":6,\"name\":\"kra\\\"ity\",\"blocked\":false,\"score\":9.5,\"none\":null,\"tags\":[\"a\",[1,2],{}],\"meta\":{\"age\":6,\"role\":\"developer\"}}";
+
+    @Test
+    public void test_json() {
+        LazyNode node = LazyNode.parse(Algo.JSON, JSON);
+        assertTrue(node.isMap());
+        assertEquals(7, node.size());
+
+        assertEquals(6, node.get("uid").toInt());
+        assertEquals(6L, node.get("uid").toLong());
+        assertEquals("kra\"ity", node.get("name").toString());
+        assertFalse(node.get("blocked").toBoolean(true));
+        assertEquals(9.5, node.get("score").toDouble());
+        assertEquals("", node.get("none").toString());
+        assertNull(node.get("unknown"));
+
+        LazyNode tags = node.get("tags");
+        assertTrue(tags.isList());
+        assertEquals(3, tags.size());
+        assertEquals("a", tags.get(0).toString());
+        assertEquals(2, tags.get(1).get(1).toInt());
+        assertTrue(tags.get(2).isMap());
+        assertEquals(0, tags.get(2).size());
+        assertNull(tags.get(3));
+
+        LazyNode meta = node.get("meta");
+        assertEquals("developer", meta.get("role").toString());
+        assertEquals("{\"age\":6,\"role\":\"developer\"}", meta.toString());
+
+        List<String> keys = new ArrayList<>();
+        for (LazyNode child : node) {
+            keys.add(child.getAlias());
+        }
+        assertEquals(Arrays.asList("uid", "name", "blocked", "score", "none", "tags", "meta"), keys);
+    }
+
+    @Test
+    public void test_write() throws Exception {
+        LazyNode node = LazyNode.parse(Algo.JSON, JSON);
+        try (Chan chan = new Json()) {
+            chan.set(null, node, node);
+            assertEquals(JSON, chan.toString());
+        }
+
+        // untouched subtree in a new document
+        try (Chan chan = new Json()) {
+            LazyNode meta = node.get("meta");
+            chan.set(null, "M", it -> {
+                it.set("uid", 1);
+                it.set("meta", meta, meta);
+            });
+            assertEquals("{\"uid\":1,\"meta\":{\"age\":6,\"role\":\"developer\"}}", chan.toString());
+        }
+
+        // re-encoded into another algo
+        Map<String, Object> expected = Json.decode(Map.class, new Event<>(JSON));
+        LazyNode kat = LazyNode.parse(Algo.KAT, Kat.encode(expected));
+        try (Chan chan = new Json()) {
+            chan.set(null, kat, kat);
+            assertEquals(expected, Json.decode(Map.class, new Event<>(chan.toString())));
+        }
+
+        // formatted by the flags of chan
+        for (long flag : new long[]{Flag.PRETTY, Flag.UNICODE}) {
+            LazyNode text = LazyNode.parse(
+                Algo.JSON, "{\"name\":\"kra\u00e9ity\",\"meta\":{\"role\":\"\u00e9\",\"tags\":[1,2]}}"
+            );
+            Map<String, Object> data = Json.decode(Map.class, new Event<>(text.toString()));
+            try (Chan a = new Json(flag); Chan b = new Json(flag)) {
+                a.set(null, text, text);
+                b.set(null, data);
+                assertEquals(b.toString(), a.toString());
+            }
+        }
+    }
+
+    @Test
+    public void test_kat() {
+        LazyNode node = LazyNode.parse(
+            Algo.KAT, "User{i:id(1)s:name(kra^)ity)L:tags{s(a)s(b)}M:meta{i:age(6)}}"
+        );
+        assertTrue(node.isMap());
+        assertEquals("User", node.getSpace());
+        assertEquals(1, node.get("id").toInt());
+        assertEquals("kra)ity", node.get("name").toString());
+        assertEquals("s", node.get("name").getSpace());
+        assertTrue(node.get("tags").isList());
+        assertEquals("b", node.get("tags").get(1).toString());
+        assertEquals("M{i:age(6)}", node.get("meta").toString());
+        assertEquals("User{i:id(1)s:name(kra^)ity)L:tags{s(a)s(b)}M:meta{i:age(6)}}", node.toString());
+        assertEquals(6, node.get("meta").get("age").toInt());
+
+        LazyNode value = LazyNode.parse(Algo.KAT, "s(kat)");
+        assertTrue(value.isValue());
+        assertEquals("kat", value.toString());
+    }
+
+    @Test
+    public void test_xml() {
+        LazyNode node = LazyNode.parse(
+            Algo.DOC, "<user id=\"1\"><name>kra&amp;ity</name><meta><age>6</age></meta></user>"
+        );
+        assertTrue(node.isMap());
+        assertEquals(1, node.get("id").toInt());
+        assertEquals("kra&ity", node.get("name").toString());
+        assertEquals(6, node.get("meta").get("age").toInt());
+        assertTrue(node.get("meta").toString().contains("<age>6</age>"));
+
+        String text = "<user><id>1</id><name>kat</name></user>";
+        assertEquals(text, LazyNode.parse(Algo.DOC, text).toString());
+    }
+
+    @Test
+    public void test_offset() {
+        byte[] data = ("[9]{ \"x\" : \"x\" , \"n\":-12 , \"d\" : 2.5e1,\"b\":true,"
+            + "\"k\\u0079\":\"v\\u0061l\",\"x1\":\"x1\"}[9]").getBytes(UTF_8);
+        LazyNode node = LazyNode.parse(
+            Algo.JSON, data, 3, data.length - 6
+        );
+        assertEquals(6, node.size());
+        assertEquals("x", node.get("x").toString());
+        assertEquals(-12, node.get("n").toInt());
+        assertEquals(-12L, node.get("n").toLong());
+        assertEquals(25D, node.get("d").toDouble());
+        assertTrue(node.get("b").toBoolean());
+        assertEquals("val", node.get("ky").toString());
+        assertEquals("x1", node.get("x1").toString());
+        assertEquals(0, node.get("x").toInt());
+    }
+}
@@ -0,0 +1,156 @@
+package plus.kat.chain;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static plus.kat.chain.Steam.Buffer;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * @author kraity
+ */
+public class SteamTest {
+
+    @Test
+    public void test_buffer() {
+        Buffer b = Buffer.INS;
+        byte[] it = b.alloc(
+            new byte[0], 0, 3000
+        );
+        assertEquals(4096, it.length);
+
+        assertTrue(b.join(it));
+        assertSame(it, b.alloc(new byte[0], 0, 4096));
+
+        // not a size class
+        assertFalse(b.join(new byte[1000]));
+        assertFalse(b.join(new byte[5000]));
+
+        byte[] data = b.alloc(
+            new byte[]{'k', 'a', 't'}, 3, 65536 + 1
+        );
+        assertEquals(131072, data.length);
+        assertEquals('k', data[0]);
+        assertEquals('t', data[2]);
+    }
+
+    @Test
+    public void test_large() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+
+        String text = sb.toString();
+        for (int i = 0; i < 3; i++) {
+            Json json = new Json();
+            json.set(null, text);
+            assertEquals(
+                '"' + text + '"', json.toString()
+            );
+            json.close();
+        }
+    }
+
+    @Test
+    public void test_connect() throws IOException {
+        Map<String, Object> data = new LinkedHashMap<>();
+        for (int i = 0; i < 500; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", i);
+            item.put("name", "kat" + i);
+            item.put("tags", Arrays.asList("a", "b"));
+            data.put("k" + i, item);
+        }
+
+        for (Steam steam : new Steam[]{new Kat(), new Json(), new Doc()}) {
+            Chan chan = (Chan) steam;
+            chan.set("data", data);
+            String expected = steam.toString();
+            steam.close();
+
+            int[] max = new int[1];
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (Steam it = (Steam) steam.getClass().getConstructor().newInstance()) {
+                it.connect((b, i, l) -> {
+                    max[0] = Math.max(max[0], l);
+                    out.write(b, i, l);
+                }, 256);
+                ((Chan) it).set("data", data);
+                it.flush();
+                assertEquals(0, it.length());
+            } catch (ReflectiveOperationException e) {
+                throw new IOException(e);
+            }
+
+            assertEquals(expected, out.toString("UTF-8"));
+            assertTrue(max[0] < 512, "flushed " + max[0]);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Json json = new Json()) {
+            json.connect(
+                Channels.newChannel(out)
+            );
+            json.set(null, data);
+            json.flush();
+        }
+        assertEquals(Json.encode(data), out.toString("UTF-8"));
+    }
+
+    @Test
+    public void test_emit() throws IOException {
+        Random r = new Random(64);
+        char[] pool = {
+            'k', 'a', 't', ' ', '0', '\t', '\n', '\u0001', '\u007F',
+            '"', '\\', '^', '(', ')', '<', '>', '&', 'é', '中'
+        };
+
+        for (long f : new long[]{0, Flag.UNICODE}) {
+            for (int n = 0; n < 500; n++) {
+                char[] text = new char[r.nextInt(n < 250 ? 24 : 2048)];
+                for (int i = 0; i < text.length; i++) {
+                    text[i] = r.nextInt(4) == 0 ?
+                        pool[r.nextInt(pool.length)] : (char) ('a' + r.nextInt(26));
+                }
+                String s = new String(text);
+                byte[] b = s.getBytes(US_ASCII);
+
+                Steam[][] list = {
+                    {new Kat(f), new Kat(f), new Kat(f)},
+                    {new Json(f), new Json(f), new Json(f)},
+                    {new Doc(f), new Doc(f), new Doc(f)}
+                };
+                for (Steam[] c : list) {
+                    for (char ch : text) {
+                        c[0].emit(ch);
+                    }
+                    c[1].emit(s);
+                    c[2].emit(text);
+                    String expected = c[0].toString();
+                    assertEquals(expected, c[1].toString());
+                    assertEquals(expected, c[2].toString());
+
+                    if (f == 0 && s.equals(new String(b))) {
+                        c[1].reset();
+                        c[1].emit(b);
+                        assertEquals(expected, c[1].toString());
+                    }
+                    for (Steam e : c) e.close();
+                }
+            }
+        }
+
+        try (Json json = new Json()) {
+            json.emit("kat\"\uD83D\uDE00\n");
+            assertEquals("kat\\\"\uD83D\uDE00\\n", json.toString());
+        }
+    }
+}
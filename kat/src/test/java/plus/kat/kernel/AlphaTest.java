@@ -0,0 +1,57 @@
+package plus.kat.kernel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static plus.kat.kernel.Alpha.Memory;
+
+public class AlphaTest {
+
+    @Test
+    public void test_memory() {
+        Memory m = Memory.INS;
+        byte[] it = m.alloc();
+        assertEquals(Memory.SCALE, it.length);
+
+        assertTrue(m.join(it));
+        assertSame(it, m.alloc());
+        assertFalse(m.join(new byte[8]));
+
+        byte[] data = m.alloc(
+            new byte[]{'k', 'a', 't'}, 3, 16
+        );
+        assertEquals(Memory.SCALE, data.length);
+        assertEquals('k', data[0]);
+        assertEquals('t', data[2]);
+    }
+
+    @Test
+    public void test_memory_concurrent() throws Exception {
+        int size = 8;
+        ExecutorService service =
+            Executors.newFixedThreadPool(size);
+        try {
+            Future<?>[] group = new Future[size];
+            for (int i = 0; i < size; i++) {
+                int n = i;
+                group[i] = service.submit(() -> {
+                    for (int k = 0; k < 10000; k++) {
+                        byte[] it = Memory.INS.alloc();
+                        it[0] = (byte) n;
+                        it[it.length - 1] = (byte) k;
+                        assertEquals(n, it[0]);
+                        assertEquals((byte) k, it[it.length - 1]);
+                        Memory.INS.join(it);
+                    }
+                });
+            }
+            for (Future<?> f : group) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package plus.kat.kernel;
+
+import org.junit.jupiter.api.Test;
+import plus.kat.*;
+import plus.kat.crash.*;
+import plus.kat.spare.*;
+
+import plus.kat.anno.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FeederTest {
+
+    static final String KAT = "{:id(1):name(kraity):tags{(a)(b^)c)}:meta{:age(6):role(developer)}:empty{}}";
+    static final String JSON = "{\"id\":1,\"name\":\"kra\\\"ity\",\"tags\":[\"a\",null,2,[3,{\"x\":4}]],\"meta\":{\"age\":6,\"role\":\"developer\"},\"empty\":{}}";
+    static final String XML = "<user id=\"1\"><name>kra&amp;ity</name><meta><age>6</age><role>developer</role></meta><tag/></user>";
+
+    static Object pull(
+        Algo algo, String text
+    ) throws Exception {
+        return new Parser().read(
+            algo, new Event<>(text)
+        );
+    }
+
+    static Object push(
+        Algo algo, String text, int chunk
+    ) throws Exception {
+        byte[] data = text.getBytes(
+            StandardCharsets.UTF_8
+        );
+        try (Parser.Feed<Object> feed =
+                 new Parser.Feed<>(algo, new Event<>())) {
+            int state = Feeder.NEED_MORE_INPUT;
+            for (int i = 0; i < data.length; i += chunk) {
+                assertEquals(Feeder.NEED_MORE_INPUT, state);
+                state = feed.feed(
+                    data, i, Math.min(chunk, data.length - i)
+                );
+            }
+            if (state != Feeder.COMPLETE) {
+                state = feed.finish();
+            }
+            assertEquals(Feeder.COMPLETE, state);
+            return feed.get();
+        }
+    }
+
+    @Test
+    public void test_feed() throws Exception {
+        Map<Algo, String> data = new HashMap<>();
+        data.put(Algo.KAT, KAT);
+        data.put(Algo.JSON, JSON);
+        data.put(Algo.DOC, XML);
+
+        for (Map.Entry<Algo, String> e : data.entrySet()) {
+            Object expected = pull(
+                e.getKey(), e.getValue()
+            );
+            assertNotNull(expected);
+            for (int chunk = 1; chunk <= 9; chunk++) {
+                assertEquals(
+                    expected, push(e.getKey(), e.getValue(), chunk), e.getKey() + ", " + chunk
+                );
+            }
+        }
+    }
+
+    @Test
+    public void test_feed_random() throws Exception {
+        Random random = new Random(7);
+        Object expected = pull(Algo.JSON, JSON);
+
+        for (int n = 0; n < 200; n++) {
+            byte[] data = JSON.getBytes(
+                StandardCharsets.UTF_8
+            );
+            Parser.Feed<Object> feed =
+                new Parser.Feed<>(Algo.JSON, new Event<>());
+            int i = 0, state = Feeder.NEED_MORE_INPUT;
+            while (i < data.length) {
+                int l = Math.min(
+                    random.nextInt(16), data.length - i
+                );
+                state = feed.feed(
+                    ByteBuffer.wrap(data, i, l)
+                );
+                i += l;
+            }
+            assertEquals(Feeder.COMPLETE, state);
+            assertEquals(expected, feed.get());
+            feed.close();
+        }
+    }
+
+    @Test
+    public void test_feed_scalar() throws Exception {
+        try (Parser.Feed<Object> feed =
+                 new Parser.Feed<>(Algo.KAT, new Event<>())) {
+            assertEquals(Feeder.NEED_MORE_INPUT, feed.feed(ByteBuffer.wrap("s(kr".getBytes())));
+            assertNull(feed.get());
+            assertEquals(Feeder.COMPLETE, feed.feed(ByteBuffer.wrap("aity) trailing".getBytes())));
+            assertEquals("kraity", feed.get());
+        }
+    }
+
+    @Test
+    public void test_feed_truncated() throws Exception {
+        try (Parser.Feed<Object> feed =
+                 new Parser.Feed<>(Algo.JSON, new Event<>())) {
+            byte[] data = "{\"id\":1,\"name\":\"kra".getBytes();
+            assertEquals(Feeder.NEED_MORE_INPUT, feed.feed(data, 0, data.length));
+            assertThrows(ReaderCrash.class, feed::finish);
+            assertNull(feed.get());
+        }
+
+        Map<String, Algo> data = new LinkedHashMap<>();
+        data.put("{\"id\":1,", Algo.JSON);
+        data.put("{\"id\":{\"x\":1}", Algo.JSON);
+        data.put("{:id(1):meta{:x(1)}", Algo.KAT);
+        data.put("<user><id>1</id>", Algo.DOC);
+
+        for (Map.Entry<String, Algo> e : data.entrySet()) {
+            try (Parser.Feed<Object> feed =
+                     new Parser.Feed<>(e.getValue(), new Event<>())) {
+                byte[] it = e.getKey().getBytes();
+                assertEquals(Feeder.NEED_MORE_INPUT, feed.feed(it, 0, it.length), e.getKey());
+                assertThrows(ReaderCrash.class, feed::finish, e.getKey());
+                assertFalse(feed.isComplete(), e.getKey());
+                assertNull(feed.get(), e.getKey());
+            }
+        }
+    }
+
+    static Map<Algo, String> entity(
+        int size, String name
+    ) {
+        Map<Algo, String> data = new HashMap<>();
+        StringBuilder json = new StringBuilder("{\"id\":1,\"skip\":[");
+        while (json.length() < size) {
+            json.append("{\"a\":[1,2.5,\"k\\\"a]t\"]},");
+        }
+        json.append("0],\"name\":\"").append(name).append("\"}");
+        data.put(Algo.JSON, json.toString());
+
+        StringBuilder kat = new StringBuilder("Entity{i:id(1)M:skip{");
+        while (kat.length() < size) {
+            kat.append("M:a{i:b(1)s:c(k^)a}t)}");
+        }
+        kat.append("}s:name(").append(name).append(")}");
+        data.put(Algo.KAT, kat.toString());
+
+        StringBuilder xml = new StringBuilder("<Entity><id>1</id><skip>");
+        while (xml.length() < size) {
+            xml.append("<a b=\"k>\"><c>1</c></a>");
+        }
+        xml.append("</skip><name>").append(name).append("</name></Entity>");
+        data.put(Algo.DOC, xml.toString());
+        return data;
+    }
+
+    static Entity entity(
+        Algo algo, byte[] data, int chunk
+    ) throws Exception {
+        try (Parser.Feed<Entity> feed =
+                 new Parser.Feed<>(algo, new Event<Entity>().with(Entity.class))) {
+            int state = Feeder.NEED_MORE_INPUT;
+            for (int i = 0; i < data.length; i += chunk) {
+                state = feed.feed(
+                    data, i, Math.min(chunk, data.length - i)
+                );
+            }
+            assertEquals(Feeder.COMPLETE, state);
+            return feed.get();
+        }
+    }
+
+    @Test
+    public void test_feed_skip() throws Exception {
+        String name = "kra\u00e9ity";
+        for (Map.Entry<Algo, String> e : entity(100, name).entrySet()) {
+            byte[] it = e.getValue().getBytes(
+                StandardCharsets.UTF_8
+            );
+            for (int chunk = 1; chunk <= 9; chunk++) {
+                Entity entity = entity(
+                    e.getKey(), it, chunk
+                );
+                assertEquals(1, entity.id);
+                assertEquals(name, entity.name, e.getKey() + ", " + chunk);
+            }
+        }
+    }
+
+    @Test
+    public void test_feed_large() throws Exception {
+        StringBuilder name = new StringBuilder();
+        while (name.length() < 12000) {
+            name.append("kraity");
+        }
+
+        // a skipped subtree of 8 MiB fed in 8K chunks,
+        // which is scanned once instead of at each feed
+        for (Map.Entry<Algo, String> e : entity(8 * 1024 * 1024, name.toString()).entrySet()) {
+            byte[] it = e.getValue().getBytes(
+                StandardCharsets.UTF_8
+            );
+            Entity entity = assertTimeout(
+                Duration.ofSeconds(10), () -> entity(e.getKey(), it, 8192), e.getKey().toString()
+            );
+            assertEquals(1, entity.id);
+            assertEquals(name.toString(), entity.name);
+        }
+    }
+
+    @Embed("Entity")
+    static class Entity {
+        @Expose("id")
+        public int id;
+
+        @Expose("name")
+        public String name;
+    }
+}
@@ -0,0 +1,218 @@
+package plus.kat.spare;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.*;
+import plus.kat.anno.Embed;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author kraity
+ */
+public class AccessorTest {
+
+    static final String[] NAMES = {
+        "id", "uid", "score", "blocked", "name"
+    };
+
+    static final String TEXT = "{\"id\":-7,\"uid\":9007199254740993,\"score\":2.5,\"blocked\":true,\"name\":\"kat\"}";
+
+    public static class Open {
+        private int id;
+        private long uid;
+        private double score;
+        private boolean blocked;
+        private String name;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public long getUid() {
+            return uid;
+        }
+
+        public void setUid(long uid) {
+            this.uid = uid;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public boolean getBlocked() {
+            return blocked;
+        }
+
+        public void setBlocked(boolean blocked) {
+            this.blocked = blocked;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class Hidden {
+        private int id;
+        private long uid;
+        private double score;
+        private boolean blocked;
+        private String name;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public long getUid() {
+            return uid;
+        }
+
+        public void setUid(long uid) {
+            this.uid = uid;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public boolean getBlocked() {
+            return blocked;
+        }
+
+        public void setBlocked(boolean blocked) {
+            this.blocked = blocked;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @Embed(with = RecordSpare.class)
+    static class Point {
+        private final int id;
+        private final long uid;
+        private final double score;
+        private final boolean blocked;
+        private final String name;
+
+        public Point(int id, long uid, double score, boolean blocked, String name) {
+            this.id = id;
+            this.uid = uid;
+            this.score = score;
+            this.blocked = blocked;
+            this.name = name;
+        }
+
+        public int id() {
+            return id;
+        }
+
+        public long uid() {
+            return uid;
+        }
+
+        public double score() {
+            return score;
+        }
+
+        public boolean blocked() {
+            return blocked;
+        }
+
+        public String name() {
+            return name;
+        }
+    }
+
+    /**
+     * Checks the accessors in a JVM started with {@code -Dkat.spare.lambda=true}
+     */
+    public static void main(String[] args) {
+        check(true);
+    }
+
+    static void check(boolean lambda) {
+        assertEquals(lambda, AbstractSpare.LAMBDA);
+        Map<?, ?> expected = Json.decode(Map.class, TEXT);
+
+        for (Class<?> clazz : new Class[]{Open.class, Hidden.class, Point.class}) {
+            AbstractSpare<?> spare = (AbstractSpare<?>) Spare.lookup(clazz);
+            for (String name : NAMES) {
+                AbstractSpare.Accessor<?> get =
+                    (AbstractSpare.Accessor<?>) spare.get(name);
+                assertNotNull(get, clazz + "#" + name);
+                assertEquals(lambda, get.applier != null, clazz + "#" + name);
+
+                if (clazz != Point.class) {
+                    AbstractSpare.Accessor<?> set =
+                        (AbstractSpare.Accessor<?>) spare.set(name);
+                    assertNotNull(set, clazz + "#" + name);
+                    assertEquals(lambda, set.acceptor != null, clazz + "#" + name);
+                }
+            }
+
+            Object bean = Json.decode(clazz, TEXT);
+            assertNotNull(bean, clazz.getName());
+            assertEquals(expected, Json.decode(Map.class, Json.encode(bean)), clazz.getName());
+        }
+    }
+
+    @Test
+    public void test_handle() {
+        check(false);
+    }
+
+    @Test
+    public void test_lambda() throws Exception {
+        Process process = new ProcessBuilder(
+            System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+            "-Dkat.spare.lambda=true",
+            "-cp", System.getProperty("java.class.path"),
+            AccessorTest.class.getName()
+        ).redirectErrorStream(true).start();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = process.getInputStream()) {
+            byte[] buf = new byte[1024];
+            for (int n; (n = in.read(buf)) != -1; ) {
+                out.write(buf, 0, n);
+            }
+        }
+
+        assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+        assertEquals(0, process.exitValue(), out.toString());
+    }
+}
@@ -0,0 +1,152 @@
+package plus.kat.spare;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.*;
+import plus.kat.chain.*;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author kraity
+ */
+public class DateSpareTest {
+
+    static final Flag FLAG = flag -> false;
+
+    static final String[][] CASES = {
+        {"yyyy-MM-dd HH:mm:ss", ""},
+        {"yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", "UTC"},
+        {"yyyyMMdd'T'HHmmss", "Asia/Shanghai"},
+        {"yyyy/M/d H:m:s.S", "America/New_York"},
+        {"'at' HH:mm 'on' dd.MM.yyyy", "Europe/Berlin"},
+    };
+
+    @Test
+    public void test_codec() throws Exception {
+        Random random = new Random(20221018L);
+        for (String[] c : CASES) {
+            DateSpare spare = new DateSpare(c[0], c[1], "");
+            SimpleDateFormat fmt = new SimpleDateFormat(c[0]);
+            if (!c[1].isEmpty()) {
+                fmt.setTimeZone(TimeZone.getTimeZone(c[1]));
+            }
+            for (int i = 0; i < 2000; i++) {
+                Date date = new Date(
+                    random.nextLong() % 8000000000000L
+                );
+                String text = fmt.format(date);
+                try (Json json = new Json()) {
+                    spare.write((Flow) json, date);
+                    assertEquals(text, json.toString());
+                }
+                assertEquals(
+                    fmt.parse(text), spare.read(
+                        FLAG, new Value(text)
+                    )
+                );
+            }
+        }
+    }
+
+    @Test
+    public void test_locale() throws Exception {
+        Date date = new Date(1666051200000L);
+        for (String lang : new String[]{
+            "th_TH", "th_TH_TH", "ja_JP_JP", "en_US"
+        }) {
+            DateSpare spare = new DateSpare(
+                "yyyy-MM-dd", "UTC", lang
+            );
+            String[] tag = lang.split("_");
+            SimpleDateFormat fmt = new SimpleDateFormat(
+                "yyyy-MM-dd", new Locale(tag[0], tag[1], tag.length > 2 ? tag[2] : "")
+            );
+            fmt.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+            String text = fmt.format(date);
+            try (Json json = new Json()) {
+                spare.write((Flow) json, date);
+                assertEquals(text, json.toString(), lang);
+            }
+            assertEquals(
+                date, spare.read(FLAG, new Value(text)), lang
+            );
+        }
+    }
+
+    @Test
+    public void test_lenient() throws Exception {
+        DateSpare spare = new DateSpare(
+            "yyyy-MM-dd HH:mm:ss", "UTC", ""
+        );
+        SimpleDateFormat fmt =
+            new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        fmt.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        for (String text : new String[]{
+            "2022-13-01 00:00:00",
+            "2022-02-30 24:00:00",
+            "1500-01-01 00:00:00",
+            "2022-01-01 10:00:00 tail"
+        }) {
+            assertEquals(
+                fmt.parse(text), spare.read(
+                    FLAG, new Value(text)
+                )
+            );
+        }
+        assertNull(
+            spare.read(FLAG, new Value("kat"))
+        );
+    }
+
+    @Test
+    public void test_concurrent() throws Exception {
+        DateSpare spare = DateSpare.INSTANCE;
+        ExecutorService service =
+            Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] group = new Future[8];
+            for (int i = 0; i < group.length; i++) {
+                long seed = i;
+                group[i] = service.submit(() -> {
+                    Random random = new Random(seed);
+                    SimpleDateFormat fmt =
+                        new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+                    for (int k = 0; k < 5000; k++) {
+                        Date date = new Date(
+                            Math.abs(random.nextLong() % 4000000000000L) / 1000 * 1000
+                        );
+                        try (Json json = new Json()) {
+                            spare.write((Flow) json, date);
+                            String text = json.toString();
+                            assertEquals(fmt.format(date), text);
+                            assertEquals(
+                                fmt.parse(text), spare.read(
+                                    FLAG, new Value(text)
+                                )
+                            );
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> f : group) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+}
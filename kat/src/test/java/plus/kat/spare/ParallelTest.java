@@ -0,0 +1,135 @@
+package plus.kat.spare;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import plus.kat.*;
+import plus.kat.crash.*;
+import plus.kat.entity.User;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelTest {
+
+    static final int SIZE = 20000;
+
+    static byte[] lines(Algo algo) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            if (algo == Algo.JSON) {
+                sb.append("{\"uid\":").append(i).append(",\"name\":\"kraity\",\"resource\":{\"age\":").append(i % 7).append("}}");
+            } else {
+                sb.append("{:uid(").append(i).append("):name(kraity):resource{:age(").append(i % 7).append(")}}");
+            }
+            sb.append(i % 3 == 0 ? "\r\n" : "\n");
+            if (i % 1000 == 0) {
+                sb.append(" \n");
+            }
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static List<Long> uid(List<User> users) {
+        List<Long> list = new ArrayList<>();
+        for (User user : users) {
+            assertEquals("kraity", user.name);
+            list.add(user.uid);
+        }
+        return list;
+    }
+
+    @Test
+    public void test_scaling() throws Exception {
+        Spare<User> spare = Supplier.ins().lookup(User.class);
+        List<Long> expected = new ArrayList<>();
+        for (long i = 0; i < SIZE; i++) {
+            expected.add(i);
+        }
+
+        for (Algo algo : new Algo[]{Algo.JSON, Algo.KAT}) {
+            byte[] data = lines(algo);
+            for (int n = 1; n <= 32; n *= 2) {
+                ForkJoinPool pool = new ForkJoinPool(n);
+                try {
+                    Parallel<User> parallel = new Parallel<>(spare, algo, pool);
+                    assertEquals(expected, uid(parallel.solve(data)));
+
+                    List<User> users = new ArrayList<>();
+                    parallel.solve(new ByteArrayInputStream(data), users::add, false);
+                    List<Long> list = uid(users);
+                    Collections.sort(list);
+                    assertEquals(expected, list);
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_buffer(@TempDir Path dir) throws Exception {
+        Spare<User> spare = Supplier.ins().lookup(User.class);
+        Parallel<User> parallel = new Parallel<>(spare, Algo.JSON);
+        byte[] data = lines(Algo.JSON);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+
+        List<User> users = new ArrayList<>();
+        parallel.solve(direct, users::add, true);
+        assertEquals(SIZE, users.size());
+        assertEquals(0, direct.position());
+        assertEquals(SIZE - 1, users.get(SIZE - 1).uid);
+
+        Path path = dir.resolve("users.ndjson");
+        Files.write(path, data);
+        users.clear();
+        parallel.solve(path, users::add, true);
+        assertEquals(SIZE, users.size());
+        assertEquals(SIZE - 1, users.get(SIZE - 1).uid);
+    }
+
+    @Test
+    public void test_window(@TempDir Path dir) throws Exception {
+        Spare<User> spare = Supplier.ins().lookup(User.class);
+        Parallel<User> parallel = new Parallel<User>(spare, Algo.JSON) {
+            @Override
+            protected long window() {
+                return 4096;
+            }
+        };
+
+        byte[] data = lines(Algo.JSON);
+        Path path = dir.resolve("users.ndjson");
+        Files.write(path, data);
+
+        List<Long> expected = new ArrayList<>();
+        for (long i = 0; i < SIZE; i++) {
+            expected.add(i);
+        }
+        List<User> users = new ArrayList<>();
+        parallel.solve(path, users::add, true);
+        assertEquals(expected, uid(users));
+
+        // no trailing line feed
+        Files.write(path, Arrays.copyOf(data, data.length - 1));
+        users.clear();
+        parallel.solve(path, users::add, true);
+        assertEquals(expected, uid(users));
+    }
+
+    @Test
+    public void test_broken() {
+        Spare<User> spare = Supplier.ins().lookup(User.class);
+        Parallel<User> parallel = new Parallel<>(spare, Algo.JSON);
+        byte[] data = "{\"uid\":1}\n{\"uid\":2\n{\"uid\":3}".getBytes();
+        assertThrows(Collapse.class, () -> parallel.solve(data));
+    }
+}
@@ -0,0 +1,72 @@
+package plus.kat.spare;
+
+import org.junit.jupiter.api.Test;
+import plus.kat.*;
+import plus.kat.crash.*;
+import plus.kat.entity.User;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SelectTest {
+
+    static final String JSON = "{\"code\":0,\"data\":{\"meta\":{\"tags\":[\"a\",{\"id\":9}]},\"items\":[{\"uid\":1,\"name\":\"kraity\"},{\"uid\":2,\"resource\":{\"id\":6}},null,{\"uid\":3}],\"名称\":\"kat\",\"a/b\":7}}";
+
+    static <T> List<T> extract(Class<T> klass, Algo algo, String text, String path) {
+        return Supplier.ins().extract(
+            klass, algo, new Event<>(text), path
+        );
+    }
+
+    @Test
+    public void test_json() {
+        assertEquals(Arrays.asList(1L, 2L, 3L), extract(Long.class, Algo.JSON, JSON, "/data/items/*/uid"));
+        assertEquals(Collections.singletonList(2L), extract(Long.class, Algo.JSON, JSON, "/data/items/1/uid"));
+        assertEquals(Collections.singletonList(6), extract(Integer.class, Algo.JSON, JSON, "/data/items/*/resource/id"));
+        assertEquals(Collections.singletonList("kat"), extract(String.class, Algo.JSON, JSON, "/data/名称"));
+        assertEquals(Collections.singletonList(7), extract(Integer.class, Algo.JSON, JSON, "/data/a~1b"));
+        assertThrows(Collapse.class, () -> extract(Integer.class, Algo.JSON, JSON, "code"));
+        assertEquals(Collections.singletonList(Collections.singletonMap("a", 1)), extract(Map.class, Algo.JSON, "{\"\":{\"a\":1}}", "/"));
+        assertEquals(Collections.singletonList(2), extract(Integer.class, Algo.JSON, "{\"\":{\"\":2}}", "//"));
+        assertEquals(1, extract(Map.class, Algo.JSON, "{\"\":{\"a\":1}}", "").size());
+        assertEquals(Collections.emptyList(), extract(Long.class, Algo.JSON, JSON, "/data/items/9/uid"));
+
+        List<User> users = extract(User.class, Algo.JSON, JSON, "/data/items/*");
+        assertEquals(3, users.size());
+        assertEquals("kraity", users.get(0).name);
+        assertEquals(3L, users.get(2).uid);
+
+        Map<?, ?> root = extract(Map.class, Algo.JSON, JSON, "").get(0);
+        assertEquals(0, root.get("code"));
+    }
+
+    @Test
+    public void test_kat() {
+        String text = "{i:code(0)M:data{L:items{{i:uid(1)s:name(kraity)}{i:uid(2)M:resource{i:id(6)}}{i:uid(3)}}}}";
+        assertEquals(Arrays.asList(1L, 2L, 3L), extract(Long.class, Algo.KAT, text, "/data/items/*/uid"));
+        assertEquals(Collections.singletonList(6), extract(Integer.class, Algo.KAT, text, "/data/items/1/resource/id"));
+        assertEquals("kraity", extract(User.class, Algo.KAT, text, "/data/items/0").get(0).name);
+    }
+
+    @Test
+    public void test_xml() {
+        String text = "<root><code>0</code><data><items><item><uid>1</uid><name>kraity</name></item><item><uid>2</uid></item></items></data></root>";
+        assertEquals(Arrays.asList(1L, 2L), extract(Long.class, Algo.DOC, text, "/data/items/*/uid"));
+        assertEquals("kraity", extract(User.class, Algo.DOC, text, "/data/items/item").get(0).name);
+    }
+
+    @Test
+    public void test_select() throws Exception {
+        Parser parser = new Parser();
+        List<Object> list = new ArrayList<>();
+        Parser.Select<Object> select = new Parser.Select<>(parser, "/data/meta/tags/1");
+
+        select.read(Algo.JSON, new Event<>(JSON), list::add);
+        select.read(Algo.JSON, new Event<>(JSON), list::add);
+
+        assertEquals(2, list.size());
+        assertEquals(9, ((Map<?, ?>) list.get(0)).get("id"));
+        parser.close();
+    }
+}
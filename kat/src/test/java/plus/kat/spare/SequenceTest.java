@@ -0,0 +1,112 @@
+package plus.kat.spare;
+
+import org.junit.jupiter.api.Test;
+import plus.kat.*;
+import plus.kat.crash.*;
+import plus.kat.entity.User;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SequenceTest {
+
+    static Event<User> event(String text) {
+        return new Event<>(
+            new ByteArrayInputStream(
+                text.getBytes(StandardCharsets.UTF_8)
+            )
+        );
+    }
+
+    static List<Long> uid(Algo algo, String text) {
+        try (Stream<User> stream = Supplier.ins().stream(
+            User.class, algo, event(text)
+        )) {
+            return stream.map(u -> u.uid).collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    public void test_json() {
+        List<Long> expected = Arrays.asList(1L, 2L, 3L);
+        assertEquals(expected, uid(Algo.JSON, "[{\"uid\":1,\"name\":\"kraity\"}, {\"uid\":2,\"resource\":{\"age\":6}} ,\n{\"uid\":3}]"));
+        assertEquals(expected, uid(Algo.JSON, "{\"uid\":1,\"name\":\"kraity\"}\n{\"uid\":2,\"resource\":{\"age\":6}}\r\n{\"uid\":3}\n"));
+        assertEquals(Collections.emptyList(), uid(Algo.JSON, " [ ] "));
+        assertEquals(Collections.emptyList(), uid(Algo.JSON, "\n"));
+    }
+
+    @Test
+    public void test_kat() {
+        List<Long> expected = Arrays.asList(1L, 2L, 3L);
+        assertEquals(expected, uid(Algo.KAT, "{{:uid(1):name(kraity)}{:uid(2):resource{:age(6)}}User{:uid(3)}}"));
+        assertEquals(expected, uid(Algo.KAT, "L{ {:uid(1)}\n{:uid(2)} {:uid(3)} }"));
+        assertEquals(expected, uid(Algo.KAT, "{:uid(1):name(kraity)}\nUser{:uid(2)}\n{:uid(3)}"));
+        assertEquals(Collections.emptyList(), uid(Algo.KAT, "{}"));
+    }
+
+    @Test
+    public void test_xml() {
+        assertEquals(
+            Arrays.asList(1L, 2L), uid(Algo.DOC, "<user><uid>1</uid></user>\n<user><uid>2</uid><name>kraity</name></user>")
+        );
+    }
+
+    @Test
+    public void test_scalar() {
+        try (Parser.Sequence<Object> it = new Parser.Sequence<>(
+            Algo.KAT, new Event<>("{i(1)s(kat) i(3)}")
+        )) {
+            List<Object> list = new ArrayList<>();
+            it.forEachRemaining(list::add);
+            assertEquals(Arrays.asList(1, "kat", 3), list);
+            assertFalse(it.hasNext());
+            assertThrows(NoSuchElementException.class, it::next);
+        }
+    }
+
+    @Test
+    public void test_json_scalar() {
+        try (Stream<Long> stream = Spare.lookup(Long.class).stream(
+            Algo.JSON, new Event<>("[1,2,3]")
+        )) {
+            assertEquals(Arrays.asList(1L, 2L, 3L), stream.collect(Collectors.toList()));
+        }
+
+        try (Stream<String> stream = Spare.lookup(String.class).stream(
+            Algo.JSON, new Event<>("[\"a\",\"b\"]")
+        )) {
+            assertEquals(Arrays.asList("a", "b"), stream.collect(Collectors.toList()));
+        }
+
+        try (Parser.Sequence<Object> it = new Parser.Sequence<>(
+            Algo.JSON, new Event<>("[ 1 , \"k\\\"a\" ,{\"t\":2}, 3.5 ]")
+        )) {
+            List<Object> list = new ArrayList<>();
+            it.forEachRemaining(list::add);
+            assertEquals(4, list.size());
+            assertEquals("k\"a", list.get(1));
+            assertEquals(Collections.singletonMap("t", 2), list.get(2));
+        }
+
+        Iterator<Long> it = Spare.lookup(Long.class).stream(
+            Algo.JSON, new Event<>("[1,2")
+        ).iterator();
+        assertEquals(1L, it.next());
+        assertThrows(Collapse.class, it::hasNext);
+    }
+
+    @Test
+    public void test_broken() {
+        Iterator<User> it = Supplier.ins().stream(
+            User.class, Algo.JSON, event("[{\"uid\":1},{\"uid\":2")
+        ).iterator();
+        assertEquals(1L, it.next().uid);
+        assertThrows(Collapse.class, it::hasNext);
+        assertFalse(it.hasNext());
+    }
+}
@@ -6,6 +6,7 @@ import plus.kat.*;
 import plus.kat.anno.Embed;
 import plus.kat.anno.Expose;
 import plus.kat.anno.Format;
+import plus.kat.chain.Alias;
 import plus.kat.kernel.Alpha;
 import plus.kat.reflex.ArrayType;
 
@@ -367,6 +368,88 @@ public class SpareTest {
     }
 
 
+    @Test
+    public void test_array_cast_bulk() {
+        List<Object> list = new ArrayList<>();
+        for (int i = 0; i < 4096; i++) {
+            list.add(i % 2 == 0 ? i : String.valueOf(i));
+        }
+
+        int[] ints = (int[]) new ArraySpare(int[].class).cast(list);
+        long[] longs = (long[]) new ArraySpare(long[].class).cast(list.toArray());
+        double[] doubles = (double[]) new ArraySpare(double[].class).cast(list);
+        byte[] bytes = (byte[]) new ArraySpare(byte[].class).cast(list);
+        String[] strings = (String[]) new ArraySpare(String[].class).cast(list);
+
+        assertEquals(4096, ints.length);
+        for (int i = 0; i < 4096; i++) {
+            assertEquals(i, ints[i]);
+            assertEquals(i, longs[i]);
+            assertEquals(i, doubles[i]);
+            assertEquals(String.valueOf(i), strings[i]);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, bytes[i]);
+        }
+
+        long[] copy = (long[]) new ArraySpare(long[].class).cast(ints);
+        assertEquals(4095L, copy[4095]);
+
+        Object[] objects = (Object[]) ArraySpare.INSTANCE.cast(
+            new int[]{1, 2, 3}
+        );
+        assertArrayEquals(new Object[]{1, 2, 3}, objects);
+    }
+
+    @Test
+    public void test_primitive_array() throws IOException {
+        // grows past the initial capacity
+        long[] wide = new long[100];
+        for (int i = 0; i < wide.length; i++) {
+            wide[i] = i * 7L - 50L;
+        }
+
+        Object[] arrays = {
+            wide,
+            new int[]{1, -2, 3},
+            new long[]{1L, -2L, 3L},
+            new float[]{1.5F, -2F},
+            new double[]{1.5D, -2.25D},
+            new short[]{1, -2},
+            new char[]{'k', 'a', 't'},
+            new boolean[]{true, false}
+        };
+
+        Supplier supplier = Supplier.ins();
+        for (Object array : arrays) {
+            Class<?> clazz = array.getClass();
+            Spare<?> spare = supplier.lookup(clazz);
+            assertNotSame(ArraySpare.class, spare.getClass());
+
+            for (Chan chan : new Chan[]{
+                new Kat(), new Json(), new Doc()
+            }) {
+                Chan ref = chan instanceof Kat ? new Kat() :
+                    chan instanceof Json ? new Json() : new Doc();
+
+                chan.set("a", spare, array);
+                ref.set("a", new ArraySpare(clazz), array);
+                assertEquals(ref.toString(), chan.toString());
+            }
+
+            Object json = supplier.solve(
+                clazz, Algo.JSON, new Event<>(
+                    Json.encode(array)
+                )
+            );
+            assertEquals(clazz, json.getClass());
+            assertEquals(
+                Json.encode(array), Json.encode(json)
+            );
+        }
+    }
+
     @Test
     public void test_UUID_read() {
         UUIDSpare spare = UUIDSpare.INSTANCE;
@@ -603,6 +686,151 @@ public class SpareTest {
         assertEquals("s(kat.plus)", Kat.encode(sb));
     }
 
+    static class Prime {
+        public int i;
+        public long l;
+        public float f;
+        public double d;
+        public boolean b;
+        public short s;
+        public byte y;
+        public char c;
+        public Integer n;
+        private int m;
+
+        public void setM(int m) {
+            this.m = m + 1;
+        }
+    }
+
+    @Test
+    public void test_primitive() {
+        Prime[] primes = {
+            Kat.decode(
+                Prime.class, "{:i(1):l(2):f(3.5):d(4.25):b(true):s(6):y(7):c(K):n(9):m(10)}"
+            ),
+            Json.decode(
+                Prime.class, "{\"i\":1,\"l\":2,\"f\":3.5,\"d\":4.25,\"b\":true,\"s\":6,\"y\":7,\"c\":\"K\",\"n\":9,\"m\":10}"
+            ),
+            Doc.decode(
+                Prime.class, "<Prime><i>1</i><l>2</l><f>3.5</f><d>4.25</d><b>true</b><s>6</s><y>7</y><c>K</c><n>9</n><m>10</m></Prime>"
+            )
+        };
+        for (Prime prime : primes) {
+            assertNotNull(prime);
+            assertEquals(1, prime.i);
+            assertEquals(2L, prime.l);
+            assertEquals(3.5F, prime.f);
+            assertEquals(4.25D, prime.d);
+            assertTrue(prime.b);
+            assertEquals((short) 6, prime.s);
+            assertEquals((byte) 7, prime.y);
+            assertEquals('K', prime.c);
+            assertEquals(9, prime.n);
+            assertEquals(11, prime.m);
+        }
+
+        // the widened handles keep the bounds
+        Prime bound = Json.decode(
+            Prime.class, "{\"i\":-2147483648,\"l\":-9223372036854775808,\"f\":0.1,\"d\":-0.0,\"b\":false,\"s\":-32768,\"y\":-128,\"c\":\"\\uffff\",\"m\":2147483646}"
+        );
+        assertNotNull(bound);
+        assertEquals(Integer.MIN_VALUE, bound.i);
+        assertEquals(Long.MIN_VALUE, bound.l);
+        assertEquals(0.1F, bound.f);
+        assertEquals(-0.0D, bound.d);
+        assertFalse(bound.b);
+        assertEquals(Short.MIN_VALUE, bound.s);
+        assertEquals(Byte.MIN_VALUE, bound.y);
+        assertEquals('\uffff', bound.c);
+        assertEquals(Integer.MAX_VALUE, bound.m);
+    }
+
+    static class Wide {
+        public int a0, a1, a2, a3, a4, a5, a6, a7, a8, a9;
+        public int aa, ab, ba, bb, abc, acb, bac, bca, cab, cba;
+
+        @Expose("名称")
+        public String name;
+    }
+
+    @Test
+    public void test_catalog() {
+        Wide wide = Json.decode(
+            Wide.class, "{\"a0\":0,\"a1\":1,\"a2\":2,\"a3\":3,\"a4\":4,\"a5\":5,\"a6\":6,\"a7\":7,\"a8\":8,\"a9\":9," +
+                "\"aa\":10,\"ab\":11,\"ba\":12,\"bb\":13,\"abc\":14,\"acb\":15,\"bac\":16,\"bca\":17,\"cab\":18,\"cba\":19," +
+                "\"b\":20,\"a10\":21,\"名称\":\"kat\"}"
+        );
+        assertNotNull(wide);
+        int[] values = {
+            wide.a0, wide.a1, wide.a2, wide.a3, wide.a4, wide.a5, wide.a6, wide.a7, wide.a8, wide.a9,
+            wide.aa, wide.ab, wide.ba, wide.bb, wide.abc, wide.acb, wide.bac, wide.bca, wide.cab, wide.cba
+        };
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(i, values[i]);
+        }
+        assertEquals("kat", wide.name);
+
+        AbstractSpare<Wide> spare = (AbstractSpare<Wide>) Spare.lookup(Wide.class);
+        assertNotNull(spare.set(new Alpha("bca")));
+        assertNull(spare.set(new Alpha("bcb")));
+        assertNull(spare.set(new Alpha("a10")));
+        assertSame(spare.set("cab"), spare.set(new Alpha("cab")));
+
+        Alias alias = new Alias("a3");
+        assertSame(spare.set("a3"), spare.set(alias, 3));
+        assertSame(spare.set("a3"), spare.set(alias, 7));
+        assertSame(spare.set("a3"), spare.set(alias, 99));
+        assertNull(spare.set(new Alias("a33"), 3));
+    }
+
+    static class Wider {
+        public int f000, f001, f002, f003, f004, f005, f006, f007, f008, f009;
+        public int f010, f011, f012, f013, f014, f015, f016, f017, f018, f019;
+        public int f020, f021, f022, f023, f024, f025, f026, f027, f028, f029;
+        public int f030, f031, f032, f033, f034, f035, f036, f037, f038, f039;
+        public int f040, f041, f042, f043, f044, f045, f046, f047, f048, f049;
+        public int f050, f051, f052, f053, f054, f055, f056, f057, f058, f059;
+        public int f060, f061, f062, f063, f064, f065, f066, f067, f068, f069;
+        public int f070, f071, f072, f073, f074, f075, f076, f077, f078, f079;
+        public int f080, f081, f082, f083, f084, f085, f086, f087, f088, f089;
+        public int f090, f091, f092, f093, f094, f095, f096, f097, f098, f099;
+        public int f100, f101, f102, f103, f104, f105, f106, f107, f108, f109;
+        public int f110, f111, f112, f113, f114, f115, f116, f117, f118, f119;
+        public int f120, f121, f122, f123, f124, f125, f126, f127;
+    }
+
+    @Test
+    public void test_catalog_wide() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < 128; i++) {
+            if (i != 0) {
+                sb.append(',');
+            }
+            sb.append(String.format("\"f%03d\":%d", i, i));
+        }
+        Wider wider = Json.decode(
+            Wider.class, sb.append('}').toString()
+        );
+        assertNotNull(wider);
+        assertEquals(0, wider.f000);
+        assertEquals(99, wider.f099);
+        assertEquals(127, wider.f127);
+
+        AbstractSpare<Wider> spare = (AbstractSpare<Wider>) Spare.lookup(Wider.class);
+        AbstractSpare.Catalog<Wider> catalog = spare.catalog();
+        assertNotNull(catalog);
+        for (int i = 0; i < 128; i++) {
+            Alpha alpha = new Alpha(
+                String.format("f%03d", i)
+            );
+            assertNotNull(catalog.find(alpha.toBytes(), alpha.length()));
+            assertSame(spare.set(alpha.toString()), spare.set(alpha));
+        }
+        assertNull(spare.set(new Alpha("f128")));
+        assertNull(spare.set(new Alpha("f00")));
+    }
+
     static class Hook {
         public void test(
             List<Integer> list,
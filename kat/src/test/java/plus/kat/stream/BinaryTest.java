@@ -2,6 +2,8 @@ package plus.kat.stream;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static java.nio.charset.StandardCharsets.*;
 
@@ -23,4 +25,43 @@ public class BinaryTest {
         assertEquals("6B6174", Binary.toUpper(b0));
         assertArrayEquals("6B6174".getBytes(US_ASCII), Binary.upper(b0));
     }
+
+    @Test
+    public void test_indexOf() {
+        byte[] b0 = "kraity^s developer)".getBytes(US_ASCII);
+        assertEquals(6, Binary.indexOf(b0, 0, b0.length, (byte) '^', (byte) ')'));
+        assertEquals(18, Binary.indexOf(b0, 7, b0.length, (byte) '^', (byte) ')'));
+        assertEquals(5, Binary.indexOf(b0, 0, 5, (byte) '^', (byte) ')'));
+
+        Random random = new Random(1);
+        for (int n = 0; n < 2000; n++) {
+            byte[] it = new byte[random.nextInt(64)];
+            random.nextBytes(it);
+
+            byte a = (byte) random.nextInt(128);
+            byte b = (byte) random.nextInt(128);
+            int i = it.length == 0 ? 0 : random.nextInt(it.length);
+
+            int e = i;
+            while (e < it.length &&
+                it[e] != a && it[e] != b) e++;
+            assertEquals(e, Binary.indexOf(it, i, it.length, a, b));
+        }
+    }
+
+    @Test
+    public void test_table() throws Exception {
+        boolean[] table = Binary.table('{', '"', '\\');
+        assertEquals(128, table.length);
+
+        byte[] b0 = "kraity\"{\u00e9}".getBytes(UTF_8);
+        assertEquals(6, Binary.indexOf(b0, 0, b0.length, table));
+        assertEquals(7, Binary.indexOf(b0, 7, b0.length, table));
+        assertEquals(b0.length, Binary.indexOf(b0, 8, b0.length, table));
+
+        Reader reader = new ByteReader(b0);
+        assertEquals('"', reader.skip(table));
+        assertEquals('{', reader.skip(table));
+        assertEquals(-1, reader.skip(table));
+    }
 }
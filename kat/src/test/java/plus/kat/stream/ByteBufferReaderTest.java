@@ -0,0 +1,70 @@
+package plus.kat.stream;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.Event;
+import plus.kat.Spare;
+import plus.kat.entity.User;
+import plus.kat.kernel.Alpha;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ByteBufferReaderTest {
+
+    @Test
+    public void test_heap_and_direct() {
+        byte[] data = "{\"uid\":1,\"name\":\"kraity\",\"role\":\"developer\"}".getBytes(UTF_8);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length + 4);
+        direct.put(new byte[]{'x', 'x'}).put(data).flip();
+        direct.position(2);
+
+        ByteBuffer heap = ByteBuffer.wrap(
+            new byte[data.length + 4]
+        );
+        heap.position(3);
+        heap = heap.slice();
+        heap.put(data).flip();
+
+        Spare<User> spare = Spare
+            .lookup(User.class);
+
+        for (ByteBuffer buf : new ByteBuffer[]{direct, heap}) {
+            int position = buf.position();
+            User user = spare.parse(
+                new Event<>(buf)
+            );
+
+            assertNotNull(user);
+            assertEquals(1, user.uid);
+            assertEquals("kraity", user.name);
+            assertEquals("developer", user.role);
+            assertEquals(position, buf.position());
+        }
+    }
+
+    @Test
+    public void test_read() throws Exception {
+        ByteBuffer direct = ByteBuffer.allocateDirect(32);
+        direct.put("kraity^s(developer)".getBytes(UTF_8)).flip();
+
+        ByteBufferReader reader = new ByteBufferReader(direct);
+
+        Alpha alpha = new Alpha();
+        assertEquals('^', reader.read(alpha, (byte) '^', (byte) ')'));
+        assertEquals("kraity", alpha.toString());
+        assertEquals('s', reader.next());
+
+        alpha.reset();
+        assertEquals(')', reader.read(alpha, (byte) '^', (byte) ')'));
+        assertEquals("(developer", alpha.toString());
+
+        alpha.reset();
+        assertEquals(-1, reader.read(alpha, (byte) '^', (byte) ')'));
+        assertTrue(alpha.isEmpty());
+        assertFalse(reader.also());
+    }
+}
@@ -0,0 +1,80 @@
+package plus.kat.stream;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.Event;
+import plus.kat.Spare;
+import plus.kat.crash.ReaderCrash;
+import plus.kat.entity.User;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChannelReaderTest {
+
+    @Test
+    public void test() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("kraity");
+        }
+        String name = sb.toString();
+
+        byte[] data = ("User{i:uid(1)s:name(" + name + ")s:role(developer)}").getBytes(UTF_8);
+
+        Spare<User> spare = Spare
+            .lookup(User.class);
+
+        for (int scale : new int[]{0, 1, 13}) {
+            ChannelReader reader = new ChannelReader(
+                Channels.newChannel(
+                    new ByteArrayInputStream(data)
+                )
+            );
+            reader.setScale(scale);
+
+            User user = spare.read(
+                new Event<>(reader)
+            );
+
+            assertNotNull(user);
+            assertEquals(1, user.uid);
+            assertEquals(name, user.name);
+            assertEquals("developer", user.role);
+        }
+
+        User user = spare.read(
+            new Event<>(
+                Channels.newChannel(
+                    new ByteArrayInputStream(data)
+                )
+            )
+        );
+        assertNotNull(user);
+        assertEquals(name, user.name);
+    }
+
+    @Test
+    public void test_non_blocking() throws Exception {
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.source().configureBlocking(false);
+            assertThrows(
+                IllegalArgumentException.class, () -> new ChannelReader(pipe.source())
+            );
+
+            // switched after it is connected
+            pipe.source().configureBlocking(true);
+            ChannelReader reader = new ChannelReader(pipe.source());
+            pipe.source().configureBlocking(false);
+            assertThrows(ReaderCrash.class, reader::also);
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+}
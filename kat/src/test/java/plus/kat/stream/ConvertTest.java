@@ -79,4 +79,18 @@ public class ConvertTest {
         byte[] d4 = "@L©µŁƎʪ˩Σ『陆之岇』🧬🏷⛰️🌏".getBytes(UTF_8);
         assertEquals("@L©µŁƎʪ˩Σ『陆之岇』🧬🏷⛰️🌏", new String(toChars(d4, 0, d4.length)));
     }
+
+    @Test
+    public void test_byte_array_offset() {
+        byte[] it = "[-128|0x1F|9.25|true|123456789012]".getBytes(UTF_8);
+        assertEquals(-128, Convert.toInt(it, 1, 4, 10, 0));
+        assertEquals(31, Convert.toInt(it, 6, 4, 10, 0));
+        assertEquals(31L, Convert.toLong(it, 6, 4, 10L, 0L));
+        assertEquals(9.25D, Convert.toDouble(it, 11, 4, 0D));
+        assertTrue(Convert.toBoolean(it, 16, 4, false));
+        assertEquals(123456789012L, Convert.toNumber(it, 21, 12, null));
+        assertEquals(9.25D, Convert.toNumber(it, 11, 4, null));
+        assertNull(Convert.toNumber(it, 16, 4, null));
+        assertEquals(-1, Convert.toInt(it, 0, 5, 10, -1));
+    }
 }
@@ -0,0 +1,244 @@
+package plus.kat.stream;
+
+import org.junit.jupiter.api.Test;
+import plus.kat.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static java.nio.charset.StandardCharsets.*;
+
+/**
+ * @author kraity
+ */
+public class DecimalTest {
+
+    static String format(double num) {
+        byte[] it = new byte[Decimal.SIZE + 2];
+        int i = Decimal.write(it, 1, num);
+        return new String(it, 1, i - 1, US_ASCII);
+    }
+
+    static String format(float num) {
+        byte[] it = new byte[Decimal.SIZE];
+        int i = Decimal.write(it, 0, num);
+        return new String(it, 0, i, US_ASCII);
+    }
+
+    /**
+     * Returns the number of significant digits
+     */
+    static int digits(String text) {
+        int n = 0, z = 0;
+        boolean lead = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == 'E') {
+                break;
+            }
+            if (c >= '0' && c <= '9') {
+                if (c == '0') {
+                    if (!lead) z++;
+                } else {
+                    lead = false;
+                    n += z + 1;
+                    z = 0;
+                }
+            }
+        }
+        return Math.max(n, 1);
+    }
+
+    /**
+     * Either the same as jdk, or shorter, or as short and closer to the exact value
+     */
+    static void compare(BigDecimal exact, String text, String jdk) {
+        if (!text.equals(jdk)) {
+            int a = digits(text), b = digits(jdk);
+            // at least two digits as java 19, such as 4.9E-324
+            assertTrue(a <= Math.max(b, 2), text + " vs " + jdk);
+            if (a >= b) {
+                BigDecimal x = exact.subtract(new BigDecimal(text)).abs();
+                BigDecimal y = exact.subtract(new BigDecimal(jdk)).abs();
+                assertTrue(x.compareTo(y) <= 0, text + " vs " + jdk);
+            }
+            assertEquals(jdk.indexOf('E') < 0, text.indexOf('E') < 0, text + " vs " + jdk);
+        }
+    }
+
+    static void check(double num) {
+        String text = format(num);
+        assertEquals(Double.doubleToLongBits(num), Double.doubleToLongBits(Double.parseDouble(text)), text);
+
+        // jdk before 19 may emit a digit more than the shortest
+        compare(new BigDecimal(num), text, Double.toString(num));
+    }
+
+    static void check(float num) {
+        String text = format(num);
+        assertEquals(Float.floatToIntBits(num), Float.floatToIntBits(Float.parseFloat(text)), text);
+
+        compare(new BigDecimal(num), text, Float.toString(num));
+    }
+
+    @Test
+    public void test_double() {
+        assertEquals("0.0", format(0D));
+        assertEquals("-0.0", format(-0D));
+        assertEquals("NaN", format(Double.NaN));
+        assertEquals("Infinity", format(Double.POSITIVE_INFINITY));
+        assertEquals("-Infinity", format(Double.NEGATIVE_INFINITY));
+        assertEquals("0.3", format(0.3D));
+        assertEquals("0.001", format(0.001D));
+        assertEquals("9.99E-4", format(0.000999D));
+        assertEquals("100.0", format(100D));
+        assertEquals("9999999.0", format(9999999D));
+        assertEquals("1.0E7", format(1.0E7D));
+        assertEquals("1.0E23", format(1.0E23D));
+        assertEquals("-32.64", format(-32.64D));
+        assertEquals("1.2345678901234567E-200", format(1.2345678901234567E-200));
+        assertEquals("4.9E-324", format(Double.MIN_VALUE));
+        assertEquals("2.2250738585072014E-308", format(Double.MIN_NORMAL));
+        assertEquals("1.7976931348623157E308", format(Double.MAX_VALUE));
+        assertEquals("-2.2250738585072014E-308", format(-Double.MIN_NORMAL));
+        assertEquals("2.82879384806159E17", format(2.82879384806159E17));
+
+        Random random = new Random(20221018);
+        for (int i = 0; i < 300_000; i++) {
+            double num = Double.longBitsToDouble(random.nextLong());
+            if (!Double.isNaN(num)) {
+                check(num);
+            }
+        }
+        for (int i = 0; i < 100_000; i++) {
+            check(random.nextDouble() * Math.pow(10, random.nextInt(30) - 10));
+            check((double) random.nextInt());
+            check(random.nextInt(100000) / 100D);
+        }
+        for (long bits = 0; bits < 4096; bits++) {
+            check(Double.longBitsToDouble(bits));
+            check(Double.longBitsToDouble(0x10000000000000L + bits));
+        }
+    }
+
+    @Test
+    public void test_float() {
+        assertEquals("0.0", format(0F));
+        assertEquals("-0.0", format(-0F));
+        assertEquals("NaN", format(Float.NaN));
+        assertEquals("-Infinity", format(Float.NEGATIVE_INFINITY));
+        assertEquals("0.1", format(0.1F));
+        assertEquals("64.128", format(64.128F));
+        assertEquals("1.0E10", format(1.0E10F));
+        assertEquals("1.4E-45", format(Float.MIN_VALUE));
+        assertEquals("1.1754944E-38", format(Float.MIN_NORMAL));
+        assertEquals("3.4028235E38", format(Float.MAX_VALUE));
+
+        Random random = new Random(20221018);
+        for (int i = 0; i < 300_000; i++) {
+            float num = Float.intBitsToFloat(random.nextInt());
+            if (!Float.isNaN(num)) {
+                check(num);
+            }
+        }
+        for (int bits = 0; bits < 0x7F800000; bits += 9973) {
+            check(Float.intBitsToFloat(bits));
+        }
+    }
+
+    @Test
+    public void test_steam() throws Exception {
+        Json json = new Json();
+        json.set(null, Arrays.asList(16D, 32.64D, 64.128F, 1.0E-5D));
+        assertEquals("[16.0,32.64,64.128,1.0E-5]", json.toString());
+        json.close();
+    }
+
+    static void parse(String text) {
+        byte[] it = text.getBytes(US_ASCII);
+        Double expected;
+        try {
+            expected = Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            expected = null;
+        }
+        if (expected == null) {
+            assertThrows(NumberFormatException.class, () -> Decimal.parseDouble(it, it.length), text);
+        } else {
+            assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(Decimal.parseDouble(it, it.length)), text);
+        }
+
+        Float single;
+        try {
+            single = Float.parseFloat(text);
+        } catch (NumberFormatException e) {
+            single = null;
+        }
+        if (single == null) {
+            assertThrows(NumberFormatException.class, () -> Decimal.parseFloat(it, it.length), text);
+        } else {
+            assertEquals(Float.floatToRawIntBits(single), Float.floatToRawIntBits(Decimal.parseFloat(it, it.length)), text);
+        }
+    }
+
+    @Test
+    public void test_parse() {
+        String[] texts = {
+            "0", "-0", "+0", "0.0", "-0.0", "1", "-1", "+1.5", "1.", ".5", "-.5", "00012.5000",
+            "1e10", "1E+10", "1e-10", "1.5e", "1e+", "e5", ".", "-", "", "abc", "1.5d", "2f", " 1", "1 ",
+            "NaN", "Infinity", "-Infinity", "0x1p3", "1..2", "1e1.5", "--1",
+            "9007199254740993", "9007199254740992", "9007199254740991", "18446744073709551615",
+            "1e308", "1.7976931348623157e308", "1.7976931348623158e308", "1.8e308", "1e309",
+            "2.2250738585072011e-308", "2.2250738585072014E-308", "4.9e-324", "2.4703282292062328e-324",
+            "2.4703282292062327e-324", "1e-350", "1e-400", "123456789012345678901234567890",
+            "0.000000000000000000000000000000000000000000001", "3.4028235e38", "3.4028236e38",
+            "1.17549435E-38", "1.4E-45", "7.0E-46", "16777217", "16777216", "33554435",
+            "1.00000017881393421514957253748434595763683319091796875001",
+            "7.038531e-26", "9.999999e-1", "123.456e-2", "1e22", "1e23", "8.589973e9"
+        };
+        for (String text : texts) {
+            parse(text);
+        }
+
+        Random random = new Random(20221018);
+        byte[] it = new byte[Decimal.SIZE];
+        for (int i = 0; i < 200_000; i++) {
+            double num = Double.longBitsToDouble(random.nextLong());
+            parse(Double.toString(num));
+            parse(new String(it, 0, Decimal.write(it, 0, num), US_ASCII));
+            parse(Float.toString(Float.intBitsToFloat(random.nextInt())));
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            sb.setLength(0);
+            if (random.nextBoolean()) {
+                sb.append('-');
+            }
+            int n = 1 + random.nextInt(21);
+            int dot = random.nextInt(n + 1);
+            for (int j = 0; j < n; j++) {
+                if (j == dot) {
+                    sb.append('.');
+                }
+                sb.append((char) ('0' + random.nextInt(10)));
+            }
+            if (random.nextBoolean()) {
+                sb.append('e').append(random.nextInt(700) - 350);
+            }
+            parse(sb.toString());
+        }
+    }
+
+    @Test
+    public void test_convert() {
+        byte[] it = "-12.5E-3".getBytes(US_ASCII);
+        assertEquals(-12.5E-3, Convert.toDouble(it, it.length, 0D));
+        assertEquals(-12.5E-3F, Convert.toFloat(it, it.length, 0F));
+        assertEquals(-12.5E-3, Convert.toNumber(it, 5, null).doubleValue() * 1E-3, 1E-12);
+        assertEquals(1D, Convert.toDouble("x".getBytes(US_ASCII), 1, 1D));
+        assertEquals(1D, Convert.toDouble("1.2.3".getBytes(US_ASCII), 5, 1D));
+    }
+}
@@ -5,7 +5,9 @@ import org.junit.jupiter.api.Test;
 import plus.kat.Event;
 import plus.kat.Spare;
 import plus.kat.entity.User;
+import plus.kat.kernel.Alpha;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
@@ -68,4 +70,72 @@ public class InputStreamReaderTest {
         assertEquals("6", user.resource.get("age"));
         assertEquals("1024", user.resource.get("devote"));
     }
+
+    @Test
+    public void test_read_span() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 512; i++) {
+            sb.append("kraity,").append(i).append(';');
+        }
+        byte[] data = (sb + "^(end)").getBytes();
+
+        for (int scale : new int[]{0, 1, 7, 64}) {
+            InputStreamReader reader = new InputStreamReader(
+                new ByteArrayInputStream(data)
+            );
+            reader.setScale(scale);
+
+            Alpha alpha = new Alpha();
+            StringBuilder out = new StringBuilder();
+            while (true) {
+                int b = reader.read(
+                    alpha, (byte) ';', (byte) '^'
+                );
+                out.append(alpha).append(b == -1 ? "" : String.valueOf((char) b));
+                alpha.clear();
+                if (b == -1) {
+                    break;
+                }
+            }
+            assertEquals(new String(data), out.toString());
+        }
+
+        ByteReader reader = new ByteReader(data);
+        Alpha alpha = new Alpha();
+        assertEquals('^', reader.read(alpha, (byte) '^', (byte) '^'));
+        assertEquals(sb.toString(), alpha.toString());
+        alpha.clear();
+        assertEquals(-1, reader.read(alpha, (byte) '^', (byte) '^'));
+        assertEquals("(end)", alpha.toString());
+    }
+
+    @Test
+    public void test_long_value() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1024; i++) {
+            sb.append("kraity");
+        }
+        String name = sb.toString();
+
+        Spare<User> spare = Spare
+            .lookup(User.class);
+
+        InputStreamReader r1 = new InputStreamReader(
+            new ByteArrayInputStream(("{\"uid\":1,\"name\":\"" + name + "\\n\"}").getBytes())
+        );
+        r1.setScale(13);
+        assertEquals(name + "\n", spare.parse(new Event<>(r1)).name);
+
+        InputStreamReader r2 = new InputStreamReader(
+            new ByteArrayInputStream(("User{s:name(" + name + "^s)}").getBytes())
+        );
+        r2.setScale(13);
+        assertEquals(name + " ", spare.read(new Event<>(r2)).name);
+
+        InputStreamReader r3 = new InputStreamReader(
+            new ByteArrayInputStream(("<User><name>" + name + "&amp;</name></User>").getBytes())
+        );
+        r3.setScale(13);
+        assertEquals(name + "&", spare.down(new Event<>(r3)).name);
+    }
 }
@@ -0,0 +1,137 @@
+package plus.kat.stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import plus.kat.Event;
+import plus.kat.Spare;
+import plus.kat.entity.User;
+import plus.kat.kernel.Alpha;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedByteReaderTest {
+
+    @Test
+    public void test_window(@TempDir Path dir) throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("kraity");
+        }
+        String name = sb.toString();
+
+        Path path = dir.resolve("user.json");
+        Files.write(
+            path, ("{\"uid\":1,\"name\":\"" + name + "\\n\",\"role\":\"developer\"}").getBytes(UTF_8)
+        );
+
+        Spare<User> spare = Spare
+            .lookup(User.class);
+
+        for (long window : new long[]{1, 7, 64, 4096}) {
+            User user = spare.parse(
+                new Event<>(
+                    new MappedByteReader(
+                        FileChannel.open(
+                            path, StandardOpenOption.READ
+                        ), window
+                    )
+                )
+            );
+
+            assertNotNull(user);
+            assertEquals(1, user.uid);
+            assertEquals(name + "\n", user.name);
+            assertEquals("developer", user.role);
+        }
+    }
+
+    @Test
+    public void test_read(@TempDir Path dir) throws Exception {
+        Path path = dir.resolve("data.kat");
+        Files.write(
+            path, "kraity^s(developer)".getBytes(UTF_8)
+        );
+
+        MappedByteReader reader = new MappedByteReader(
+            FileChannel.open(
+                path, StandardOpenOption.READ
+            ), 5
+        );
+
+        Alpha alpha = new Alpha();
+        assertEquals('^', reader.read(alpha, (byte) '^', (byte) ')'));
+        assertEquals("kraity", alpha.toString());
+        assertEquals('s', reader.next());
+
+        alpha.reset();
+        assertEquals(')', reader.read(alpha, (byte) '^', (byte) ')'));
+        assertEquals("(developer", alpha.toString());
+        assertFalse(reader.also());
+
+        reader.close();
+        assertFalse(reader.also());
+    }
+
+    @Test
+    public void test_chunk(@TempDir Path dir) throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            sb.append("kraity");
+        }
+        String name = sb.toString();
+
+        Path path = dir.resolve("data.kat");
+        Files.write(
+            path, (name + "^" + name + ")  s").getBytes(UTF_8)
+        );
+
+        for (long window : new long[]{7, 4096, 1 << 20}) {
+            MappedByteReader reader = new MappedByteReader(
+                FileChannel.open(
+                    path, StandardOpenOption.READ
+                ), window
+            );
+
+            Alpha alpha = new Alpha();
+            assertEquals('^', reader.read(alpha, (byte) '^', (byte) ')'));
+            assertEquals(name, alpha.toString());
+
+            alpha.reset();
+            assertEquals(')', reader.read(alpha, (byte) '^', (byte) ')'));
+            assertEquals(name, alpha.toString());
+
+            assertEquals('s', reader.skip(Binary.table('s')));
+            assertFalse(reader.also());
+            reader.close();
+        }
+    }
+
+    @Test
+    public void test_of(@TempDir Path dir) throws Exception {
+        Path path = dir.resolve("user.kat");
+        Files.write(
+            path, "User{i:uid(1)s:name(kraity)}".getBytes(UTF_8)
+        );
+
+        Reader reader = MappedByteReader.of(path);
+        assertEquals(
+            Files.size(path) >= MappedByteReader.THRESHOLD,
+            reader instanceof MappedByteReader
+        );
+        reader.close();
+
+        User user = Spare
+            .lookup(User.class)
+            .read(new Event<>(path));
+
+        assertNotNull(user);
+        assertEquals("kraity", user.name);
+    }
+}
@@ -0,0 +1,97 @@
+package plus.kat.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author kraity
+ */
+public class KatPoolTest {
+
+    static class Pool extends KatPool<AtomicInteger> {
+
+        final AtomicInteger made = new AtomicInteger();
+
+        Pool(int size, int policy) {
+            super(size, policy, 16, 100);
+        }
+
+        @Override
+        public AtomicInteger make() {
+            made.incrementAndGet();
+            return new AtomicInteger();
+        }
+
+        @Override
+        public boolean stop(AtomicInteger it) {
+            return true;
+        }
+
+        @Override
+        public boolean lock(AtomicInteger it) {
+            return it.compareAndSet(0, 1);
+        }
+
+        @Override
+        public boolean unlock(AtomicInteger it) {
+            return it.compareAndSet(1, 0);
+        }
+    }
+
+    @Test
+    public void test_reuse() {
+        Pool pool = new Pool(2, KatPool.DISCARD);
+
+        AtomicInteger a = pool.make();
+        a.set(1);
+        assertTrue(pool.retreat(a));
+        assertSame(a, pool.borrow());
+        assertEquals(1, a.get());
+
+        // made instances are borrowed locked
+        Pool fresh = new Pool(2, KatPool.DISCARD);
+        AtomicInteger b = fresh.borrow();
+        assertEquals(1, b.get());
+        assertTrue(fresh.retreat(b));
+        assertEquals(0, b.get());
+
+        assertFalse(pool.retreat(null));
+        assertEquals(KatPool.PARK, KatPool.policy("park", KatPool.SPIN));
+        assertEquals(KatPool.SPIN, KatPool.policy("unknown", KatPool.SPIN));
+    }
+
+    @Test
+    public void test_overflow() throws Exception {
+        for (int policy : new int[]{
+            KatPool.DISCARD, KatPool.SPIN, KatPool.PARK
+        }) {
+            Pool pool = new Pool(4, policy);
+            ExecutorService service =
+                Executors.newFixedThreadPool(8);
+            try {
+                Future<?>[] group = new Future[8];
+                for (int i = 0; i < group.length; i++) {
+                    group[i] = service.submit(() -> {
+                        for (int k = 0; k < 2000; k++) {
+                            AtomicInteger it = pool.borrow();
+                            if (it.get() == 0) {
+                                it.set(1);
+                            }
+                            assertEquals(1, it.get());
+                            pool.retreat(it);
+                        }
+                    });
+                }
+                for (Future<?> f : group) {
+                    f.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                service.shutdown();
+            }
+        }
+    }
+}